@@ -0,0 +1,98 @@
+package com.ajanuary.openenum.gson;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Reads JSON strings that match the name of a constant as enum values, and anything else as an
+ * unknown value. Writes enum values as their precomputed wire names, and unknown values with the
+ * adapter for their type.
+ */
+final class OpenEnumTypeAdapter<U> extends TypeAdapter<OpenEnum<?, U>> {
+  private final TypeToken<?> type;
+  private final OpenEnumResolver<?> resolver;
+  private final String[] wireNames;
+  private final Function<Class<?>, String[]> wireNamesByType;
+  private final TypeAdapter<U> unknownAdapter;
+  private final boolean stringUnknowns;
+
+  /**
+   * Create an adapter.
+   *
+   * @param type the declared type of the values
+   * @param resolver the resolver for the enum, or null if the enum isn't known until values are
+   *     written
+   * @param wireNames the wire names of the constants of the enum, indexed by ordinal, or null if
+   *     the enum isn't known until values are written
+   * @param wireNamesByType function that returns the wire names for the enum of a value
+   * @param unknownAdapter the adapter for unknown values
+   * @param stringUnknowns whether unknown values are strings
+   */
+  OpenEnumTypeAdapter(
+      TypeToken<?> type,
+      OpenEnumResolver<?> resolver,
+      String[] wireNames,
+      Function<Class<?>, String[]> wireNamesByType,
+      TypeAdapter<U> unknownAdapter,
+      boolean stringUnknowns) {
+    this.type = type;
+    this.resolver = resolver;
+    this.wireNames = wireNames;
+    this.wireNamesByType = wireNamesByType;
+    this.unknownAdapter = unknownAdapter;
+    this.stringUnknowns = stringUnknowns;
+  }
+
+  @Override
+  public void write(JsonWriter out, OpenEnum<?, U> value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    if (value.isUnknownValue()) {
+      unknownAdapter.write(out, value.getUnknownValue());
+      return;
+    }
+    Enum<?> enumValue = value.getEnumValue();
+    String[] names = wireNames;
+    if (names == null) {
+      names = wireNamesByType.apply(enumValue.getDeclaringClass());
+    }
+    out.value(names[enumValue.ordinal()]);
+  }
+
+  @Override
+  public OpenEnum<?, U> read(JsonReader in) throws IOException {
+    if (resolver == null) {
+      throw new JsonParseException("Cannot read " + type + " without the type of its enum");
+    }
+    JsonToken token = in.peek();
+    if (token == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    if (token != JsonToken.STRING) {
+      return OpenEnum.fromUnknown(unknownAdapter.read(in));
+    }
+    String name = in.nextString();
+    // Strings that aren't names are read by the unknown value's adapter when it isn't for strings,
+    // so only look up constants, rather than have the resolver record them as unknown strings.
+    OpenEnum<?, String> openEnum = stringUnknowns ? resolver.resolve(name) : resolver.lookup(name);
+    if (openEnum != null) {
+      @SuppressWarnings("unchecked")
+      OpenEnum<?, U> result = (OpenEnum<?, U>) openEnum;
+      return result;
+    }
+    // The string has already been consumed, so hand it to the unknown value's adapter as a tree.
+    return OpenEnum.fromUnknown(unknownAdapter.fromJsonTree(new JsonPrimitive(name)));
+  }
+}
@@ -0,0 +1,104 @@
+package com.ajanuary.openenum.gson;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Gson {@link TypeAdapterFactory} for {@link OpenEnum} values.
+ *
+ * <p>Enum values are written as their wire names, as given by {@link OpenEnumResolver#wireName},
+ * and unknown values are written with the adapter for their own type. When reading, the type
+ * parameters of the {@code OpenEnum} are taken from the declared type. JSON strings are resolved
+ * against the names of the constants, and anything else is read as an unknown value, with the
+ * adapter for the unknown value type.
+ *
+ * <p>One adapter is created for each parameterization of {@code OpenEnum}, and Gson caches it. The
+ * resolver and wire names for each enum are created once, and shared by all its adapters.
+ *
+ * <p>By default names are resolved with {@link OpenEnumResolver#forEnum}. Use {@link #addResolver}
+ * to resolve an enum with a configured resolver instead.
+ *
+ * <pre>{@code
+ * Gson gson =
+ *     new GsonBuilder().registerTypeAdapterFactory(new OpenEnumTypeAdapterFactory()).create();
+ * }</pre>
+ */
+public final class OpenEnumTypeAdapterFactory implements TypeAdapterFactory {
+  private final Map<Class<?>, OpenEnumResolver<?>> resolversByType = new ConcurrentHashMap<>();
+  private final Map<Class<?>, String[]> wireNamesByType = new ConcurrentHashMap<>();
+
+  /**
+   * Use a configured resolver for an enum, in place of {@link OpenEnumResolver#forEnum}.
+   *
+   * <p>This must be called before the factory is registered with a {@code GsonBuilder}.
+   *
+   * @param resolver the resolver to use for its enum
+   * @return this factory
+   */
+  public OpenEnumTypeAdapterFactory addResolver(OpenEnumResolver<?> resolver) {
+    if (resolver == null) {
+      throw new IllegalArgumentException("resolver cannot be null");
+    }
+    resolversByType.put(resolver.getEnumType(), resolver);
+    return this;
+  }
+
+  @Override
+  public <A> TypeAdapter<A> create(Gson gson, TypeToken<A> type) {
+    if (type.getRawType() != OpenEnum.class) {
+      return null;
+    }
+    Type enumType = Object.class;
+    Type unknownType = Object.class;
+    if (type.getType() instanceof ParameterizedType) {
+      Type[] typeArguments = ((ParameterizedType) type.getType()).getActualTypeArguments();
+      enumType = typeArguments[0];
+      unknownType = typeArguments[1];
+    }
+    OpenEnumResolver<?> resolver = null;
+    if (enumType instanceof Class<?> && ((Class<?>) enumType).isEnum()) {
+      resolver = resolver((Class<?>) enumType);
+    }
+    @SuppressWarnings("unchecked")
+    TypeAdapter<A> adapter =
+        (TypeAdapter<A>)
+            new OpenEnumTypeAdapter<>(
+                type,
+                resolver,
+                resolver == null ? null : wireNames(resolver.getEnumType()),
+                this::wireNames,
+                gson.getAdapter(TypeToken.get(unknownType)),
+                unknownType == String.class);
+    return adapter;
+  }
+
+  private OpenEnumResolver<?> resolver(Class<?> enumType) {
+    return resolversByType.computeIfAbsent(enumType, OpenEnumTypeAdapterFactory::defaultResolver);
+  }
+
+  private String[] wireNames(Class<?> enumType) {
+    return wireNamesByType.computeIfAbsent(enumType, type -> createWireNames(resolver(type)));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static OpenEnumResolver<?> defaultResolver(Class<?> enumType) {
+    return OpenEnumResolver.forEnum((Class) enumType);
+  }
+
+  private static <T extends Enum<T>> String[] createWireNames(OpenEnumResolver<T> resolver) {
+    T[] constants = resolver.getEnumType().getEnumConstants();
+    String[] wireNames = new String[constants.length];
+    for (T constant : constants) {
+      wireNames[constant.ordinal()] = resolver.wireName(constant);
+    }
+    return wireNames;
+  }
+}
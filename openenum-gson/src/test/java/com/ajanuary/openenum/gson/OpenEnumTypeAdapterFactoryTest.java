@@ -0,0 +1,171 @@
+package com.ajanuary.openenum.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.ajanuary.openenum.WireName;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumTypeAdapterFactoryTest {
+  enum AccountType {
+    Standard,
+    @WireName({"enterprise-plus", "enterprise_plus"})
+    EnterprisePlus
+  }
+
+  static final class Account {
+    OpenEnum<AccountType, String> type;
+    OpenEnum<AccountType, Integer> code;
+  }
+
+  private final Gson gson =
+      new GsonBuilder().registerTypeAdapterFactory(new OpenEnumTypeAdapterFactory()).create();
+
+  @Test
+  void reads_names_as_canonical_enum_values() {
+    Account account = gson.fromJson("{\"type\":\"Standard\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.type);
+  }
+
+  @Test
+  void reads_wire_names_and_aliases() {
+    List<OpenEnum<AccountType, String>> types =
+        gson.fromJson(
+            "[\"enterprise-plus\", \"enterprise_plus\"]",
+            new TypeToken<List<OpenEnum<AccountType, String>>>() {}.getType());
+
+    assertSame(OpenEnum.fromEnum(AccountType.EnterprisePlus), types.get(0));
+    assertSame(OpenEnum.fromEnum(AccountType.EnterprisePlus), types.get(1));
+  }
+
+  @Test
+  void reads_other_strings_as_unknown_values() {
+    Account account = gson.fromJson("{\"type\":\"Premium\"}", Account.class);
+
+    assertEquals("Premium", account.type.getUnknownValue());
+  }
+
+  @Test
+  void reads_unknown_values_with_their_own_type() {
+    Account account = gson.fromJson("{\"code\":42}", Account.class);
+
+    assertEquals(42, account.code.getUnknownValue());
+  }
+
+  @Test
+  void reads_strings_as_unknown_values_of_their_own_type() {
+    Account account = gson.fromJson("{\"code\":\"42\"}", Account.class);
+
+    assertEquals(42, account.code.getUnknownValue());
+  }
+
+  @Test
+  void reads_names_when_unknown_values_are_not_strings() {
+    Account account = gson.fromJson("{\"code\":\"Standard\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.code);
+  }
+
+  @Test
+  void reads_null_as_null() {
+    Account account = gson.fromJson("{\"type\":null}", Account.class);
+
+    assertNull(account.type);
+  }
+
+  @Test
+  void writes_enum_values_as_wire_names() {
+    Account account = new Account();
+    account.type = OpenEnum.fromEnum(AccountType.EnterprisePlus);
+    account.code = OpenEnum.fromEnum(AccountType.Standard);
+
+    String json = gson.toJson(account);
+
+    assertEquals("{\"type\":\"enterprise-plus\",\"code\":\"Standard\"}", json);
+  }
+
+  @Test
+  void writes_unknown_values_with_their_own_type() {
+    Account account = new Account();
+    account.type = OpenEnum.fromUnknown("Premium");
+    account.code = OpenEnum.fromUnknown(42);
+
+    String json = gson.toJson(account);
+
+    assertEquals("{\"type\":\"Premium\",\"code\":42}", json);
+  }
+
+  @Test
+  void writes_values_without_declared_type() {
+    String json =
+        gson.toJson(
+            Arrays.asList(OpenEnum.fromEnum(AccountType.EnterprisePlus), OpenEnum.fromUnknown(7)));
+
+    assertEquals("[\"enterprise-plus\",7]", json);
+  }
+
+  @Test
+  void creates_one_adapter_per_type() {
+    TypeToken<OpenEnum<AccountType, String>> type = new TypeToken<>() {};
+
+    TypeAdapter<OpenEnum<AccountType, String>> adapter = gson.getAdapter(type);
+
+    assertSame(adapter, gson.getAdapter(new TypeToken<OpenEnum<AccountType, String>>() {}));
+  }
+
+  @Test
+  void uses_added_resolvers() {
+    Gson gson =
+        new GsonBuilder()
+            .registerTypeAdapterFactory(
+                new OpenEnumTypeAdapterFactory()
+                    .addResolver(
+                        OpenEnumResolver.builder(AccountType.class)
+                            .ignoreAsciiCase(true)
+                            .wireName(AccountType.Standard, "std")
+                            .build()))
+            .create();
+
+    Account account = gson.fromJson("{\"type\":\"STD\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.type);
+    assertEquals("{\"type\":\"std\"}", gson.toJson(account));
+  }
+
+  @Test
+  void does_not_record_strings_read_as_other_unknown_types() {
+    List<Object> unknownValues = new ArrayList<>();
+    Gson gson =
+        new GsonBuilder()
+            .registerTypeAdapterFactory(
+                new OpenEnumTypeAdapterFactory()
+                    .addResolver(
+                        OpenEnumResolver.builder(AccountType.class)
+                            .listener((enumType, unknownValue) -> unknownValues.add(unknownValue))
+                            .build()))
+            .create();
+
+    Account account = gson.fromJson("{\"code\":\"42\"}", Account.class);
+
+    assertEquals(42, account.code.getUnknownValue());
+    assertEquals(List.of(), unknownValues);
+  }
+
+  @Test
+  void reading_requires_enum_type() {
+    assertThrows(JsonParseException.class, () -> gson.fromJson("\"Standard\"", OpenEnum.class));
+  }
+}
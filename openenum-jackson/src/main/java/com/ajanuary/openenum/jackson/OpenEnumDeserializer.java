@@ -0,0 +1,84 @@
+package com.ajanuary.openenum.jackson;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Reads JSON strings that match the name of a constant as enum values, and anything else as an
+ * unknown value.
+ *
+ * <p>The deserializer registered with Jackson only knows the declared type. The resolver and the
+ * deserializer for unknown values are looked up once per property, in {@link #createContextual}.
+ */
+final class OpenEnumDeserializer extends StdDeserializer<OpenEnum<?, ?>>
+    implements ContextualDeserializer {
+  private static final long serialVersionUID = 1L;
+
+  private final transient Function<Class<?>, OpenEnumResolver<?>> resolvers;
+  private final transient OpenEnumResolver<?> resolver;
+  private final transient JsonDeserializer<?> unknownDeserializer;
+  private final boolean stringUnknowns;
+
+  OpenEnumDeserializer(JavaType type, Function<Class<?>, OpenEnumResolver<?>> resolvers) {
+    this(type, resolvers, null, null, false);
+  }
+
+  private OpenEnumDeserializer(
+      JavaType type,
+      Function<Class<?>, OpenEnumResolver<?>> resolvers,
+      OpenEnumResolver<?> resolver,
+      JsonDeserializer<?> unknownDeserializer,
+      boolean stringUnknowns) {
+    super(type);
+    this.resolvers = resolvers;
+    this.resolver = resolver;
+    this.unknownDeserializer = unknownDeserializer;
+    this.stringUnknowns = stringUnknowns;
+  }
+
+  @Override
+  public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+      throws JsonMappingException {
+    JavaType type = getValueType();
+    JavaType enumType = type.containedTypeOrUnknown(0);
+    if (!enumType.isEnumType()) {
+      return ctxt.reportBadDefinition(
+          type, "Cannot deserialize " + type + " without the type of its enum");
+    }
+    JavaType unknownType = type.containedTypeOrUnknown(1);
+    return new OpenEnumDeserializer(
+        type,
+        resolvers,
+        resolvers.apply(enumType.getRawClass()),
+        ctxt.findContextualValueDeserializer(unknownType, property),
+        unknownType.hasRawClass(String.class));
+  }
+
+  @Override
+  public OpenEnum<?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.hasToken(JsonToken.VALUE_STRING)) {
+      char[] text = p.getTextCharacters();
+      if (stringUnknowns) {
+        return resolver.resolve(text, p.getTextOffset(), p.getTextLength());
+      }
+      // Other strings are read by the unknown value's deserializer, so only look up constants here,
+      // rather than have the resolver record them as unknown strings.
+      OpenEnum<?, String> openEnum = resolver.lookup(text, p.getTextOffset(), p.getTextLength());
+      if (openEnum != null) {
+        return openEnum;
+      }
+    }
+    return OpenEnum.fromUnknown(unknownDeserializer.deserialize(p, ctxt));
+  }
+}
@@ -0,0 +1,117 @@
+package com.ajanuary.openenum.jackson;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Jackson module that serializes and deserializes {@link OpenEnum} values.
+ *
+ * <p>Enum values are written as their wire names, as given by {@link OpenEnumResolver#wireName},
+ * and unknown values are written with the serializer for their own type. When reading, the type
+ * parameters of the {@code OpenEnum} are taken from the declared type. JSON strings are matched
+ * against the names of the constants directly from the parser's character buffer, so no {@code
+ * String} is created for known names. Anything else is read as an unknown value, with the
+ * deserializer for the unknown value type.
+ *
+ * <p>By default names are resolved with {@link OpenEnumResolver#forEnum}. Use {@link #addResolver}
+ * to resolve an enum with a configured resolver instead.
+ *
+ * <pre>{@code
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new OpenEnumModule());
+ * }</pre>
+ */
+public final class OpenEnumModule extends Module {
+  private final Map<Class<?>, OpenEnumResolver<?>> resolversByType = new ConcurrentHashMap<>();
+  private final Map<Class<?>, SerializedString[]> wireNamesByType = new ConcurrentHashMap<>();
+
+  /**
+   * Use a configured resolver for an enum, in place of {@link OpenEnumResolver#forEnum}.
+   *
+   * <p>This must be called before the module is registered with an {@code ObjectMapper}.
+   *
+   * @param resolver the resolver to use for its enum
+   * @return this module
+   */
+  public OpenEnumModule addResolver(OpenEnumResolver<?> resolver) {
+    if (resolver == null) {
+      throw new IllegalArgumentException("resolver cannot be null");
+    }
+    resolversByType.put(resolver.getEnumType(), resolver);
+    return this;
+  }
+
+  @Override
+  public String getModuleName() {
+    return "OpenEnumModule";
+  }
+
+  @Override
+  public Version version() {
+    return Version.unknownVersion();
+  }
+
+  @Override
+  public void setupModule(SetupContext context) {
+    context.addSerializers(
+        new Serializers.Base() {
+          @Override
+          public JsonSerializer<?> findSerializer(
+              SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            if (type.getRawClass() != OpenEnum.class) {
+              return null;
+            }
+            JavaType enumType = type.containedTypeOrUnknown(0);
+            return new OpenEnumSerializer(
+                enumType.isEnumType() ? wireNames(enumType.getRawClass()) : null,
+                OpenEnumModule.this::wireNames);
+          }
+        });
+    context.addDeserializers(
+        new Deserializers.Base() {
+          @Override
+          public JsonDeserializer<?> findBeanDeserializer(
+              JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            if (type.getRawClass() != OpenEnum.class) {
+              return null;
+            }
+            return new OpenEnumDeserializer(type, OpenEnumModule.this::resolver);
+          }
+        });
+  }
+
+  private OpenEnumResolver<?> resolver(Class<?> enumType) {
+    return resolversByType.computeIfAbsent(enumType, OpenEnumModule::defaultResolver);
+  }
+
+  private SerializedString[] wireNames(Class<?> enumType) {
+    return wireNamesByType.computeIfAbsent(enumType, type -> createWireNames(resolver(type)));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static OpenEnumResolver<?> defaultResolver(Class<?> enumType) {
+    return OpenEnumResolver.forEnum((Class) enumType);
+  }
+
+  private static <T extends Enum<T>> SerializedString[] createWireNames(
+      OpenEnumResolver<T> resolver) {
+    T[] constants = resolver.getEnumType().getEnumConstants();
+    SerializedString[] wireNames = new SerializedString[constants.length];
+    for (T constant : constants) {
+      wireNames[constant.ordinal()] = new SerializedString(resolver.wireName(constant));
+    }
+    return wireNames;
+  }
+}
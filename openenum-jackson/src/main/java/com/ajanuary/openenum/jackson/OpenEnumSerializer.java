@@ -0,0 +1,49 @@
+package com.ajanuary.openenum.jackson;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Writes enum values as their precomputed wire names, and unknown values with the serializer for
+ * their type.
+ */
+final class OpenEnumSerializer extends StdSerializer<OpenEnum<?, ?>> {
+  private static final long serialVersionUID = 1L;
+
+  private final transient SerializedString[] wireNames;
+  private final transient Function<Class<?>, SerializedString[]> wireNamesByType;
+
+  /**
+   * Create a serializer.
+   *
+   * @param wireNames the wire names of the constants of the enum, indexed by ordinal, or null if
+   *     the enum isn't known until values are written
+   * @param wireNamesByType function that returns the wire names for the enum of a value
+   */
+  OpenEnumSerializer(
+      SerializedString[] wireNames, Function<Class<?>, SerializedString[]> wireNamesByType) {
+    super(OpenEnum.class, false);
+    this.wireNames = wireNames;
+    this.wireNamesByType = wireNamesByType;
+  }
+
+  @Override
+  public void serialize(OpenEnum<?, ?> value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    if (value.isUnknownValue()) {
+      provider.defaultSerializeValue(value.getUnknownValue(), gen);
+      return;
+    }
+    Enum<?> enumValue = value.getEnumValue();
+    SerializedString[] names = wireNames;
+    if (names == null) {
+      names = wireNamesByType.apply(enumValue.getDeclaringClass());
+    }
+    gen.writeString(names[enumValue.ordinal()]);
+  }
+}
@@ -0,0 +1,164 @@
+package com.ajanuary.openenum.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ajanuary.openenum.OpenEnum;
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.ajanuary.openenum.WireName;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumModuleTest {
+  enum AccountType {
+    Standard,
+    @WireName({"enterprise-plus", "enterprise_plus"})
+    EnterprisePlus
+  }
+
+  public static final class Account {
+    public OpenEnum<AccountType, String> type;
+    public OpenEnum<AccountType, Integer> code;
+  }
+
+  public static final class Event {
+    public OpenEnum<AccountType, Object> source;
+  }
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new OpenEnumModule());
+
+  @Test
+  void reads_names_as_canonical_enum_values() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"type\":\"Standard\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.type);
+  }
+
+  @Test
+  void reads_wire_names_and_aliases() throws JsonProcessingException {
+    List<OpenEnum<AccountType, String>> types =
+        mapper.readValue(
+            "[\"enterprise-plus\", \"enterprise_plus\"]",
+            new TypeReference<List<OpenEnum<AccountType, String>>>() {});
+
+    assertSame(OpenEnum.fromEnum(AccountType.EnterprisePlus), types.get(0));
+    assertSame(OpenEnum.fromEnum(AccountType.EnterprisePlus), types.get(1));
+  }
+
+  @Test
+  void reads_other_strings_as_unknown_values() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"type\":\"Premium\"}", Account.class);
+
+    assertEquals("Premium", account.type.getUnknownValue());
+  }
+
+  @Test
+  void reads_escaped_names() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"type\":\"Stan\\u0064ard\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.type);
+  }
+
+  @Test
+  void reads_unknown_values_with_their_own_type() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"code\":42}", Account.class);
+
+    assertEquals(42, account.code.getUnknownValue());
+  }
+
+  @Test
+  void reads_names_when_unknown_values_are_not_strings() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"code\":\"Standard\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.code);
+  }
+
+  @Test
+  void reads_null_as_null() throws JsonProcessingException {
+    Account account = mapper.readValue("{\"type\":null}", Account.class);
+
+    assertNull(account.type);
+  }
+
+  @Test
+  void writes_enum_values_as_wire_names() throws JsonProcessingException {
+    Account account = new Account();
+    account.type = OpenEnum.fromEnum(AccountType.EnterprisePlus);
+    account.code = OpenEnum.fromEnum(AccountType.Standard);
+
+    String json = mapper.writeValueAsString(account);
+
+    assertEquals("{\"type\":\"enterprise-plus\",\"code\":\"Standard\"}", json);
+  }
+
+  @Test
+  void writes_unknown_values_with_their_own_type() throws JsonProcessingException {
+    Account account = new Account();
+    account.type = OpenEnum.fromUnknown("Premium");
+    account.code = OpenEnum.fromUnknown(42);
+
+    String json = mapper.writeValueAsString(account);
+
+    assertEquals("{\"type\":\"Premium\",\"code\":42}", json);
+  }
+
+  @Test
+  void writes_values_without_declared_type() throws JsonProcessingException {
+    String json =
+        mapper.writeValueAsString(
+            List.of(OpenEnum.fromEnum(AccountType.EnterprisePlus), OpenEnum.fromUnknown(null)));
+
+    assertEquals("[\"enterprise-plus\",null]", json);
+  }
+
+  @Test
+  void uses_added_resolvers() throws JsonProcessingException {
+    ObjectMapper mapper =
+        new ObjectMapper()
+            .registerModule(
+                new OpenEnumModule()
+                    .addResolver(
+                        OpenEnumResolver.builder(AccountType.class)
+                            .ignoreAsciiCase(true)
+                            .wireName(AccountType.Standard, "std")
+                            .build()));
+
+    Account account = mapper.readValue("{\"type\":\"STD\"}", Account.class);
+
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), account.type);
+    assertEquals("{\"type\":\"std\",\"code\":null}", mapper.writeValueAsString(account));
+  }
+
+  @Test
+  void does_not_record_strings_read_as_other_unknown_types() throws JsonProcessingException {
+    List<Object> unknownValues = new ArrayList<>();
+    ObjectMapper mapper =
+        new ObjectMapper()
+            .registerModule(
+                new OpenEnumModule()
+                    .addResolver(
+                        OpenEnumResolver.builder(AccountType.class)
+                            .listener((enumType, unknownValue) -> unknownValues.add(unknownValue))
+                            .build()));
+
+    Event event = mapper.readValue("{\"source\":\"Premium\"}", Event.class);
+    Event known = mapper.readValue("{\"source\":\"Standard\"}", Event.class);
+
+    assertEquals("Premium", event.source.getUnknownValue());
+    assertSame(OpenEnum.fromEnum(AccountType.Standard), known.source);
+    assertEquals(List.of(), unknownValues);
+  }
+
+  @Test
+  void reading_requires_enum_type() {
+    assertThrows(
+        InvalidDefinitionException.class, () -> mapper.readValue("\"Standard\"", OpenEnum.class));
+  }
+}
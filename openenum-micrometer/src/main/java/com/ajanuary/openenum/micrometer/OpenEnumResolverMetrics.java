@@ -0,0 +1,112 @@
+package com.ajanuary.openenum.micrometer;
+
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.ajanuary.openenum.ResolverStatsRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Micrometer {@link MeterBinder} that reports the {@link OpenEnumResolver#stats} of a resolver.
+ *
+ * <p>The resolver must be built with {@link OpenEnumResolver.Builder#recordStats}. Its statistics
+ * are kept in {@code LongAdder}s and a lock-free HyperLogLog sketch, and are only read when the
+ * registry publishes, so instrumentation can stay enabled under load. Each meter reads only its own
+ * statistic from the resolver's {@link ResolverStatsRecorder}, so the HyperLogLog estimate is only
+ * computed for {@code openenum.unknown.distinct}. The meters, each tagged with the class name of
+ * the enum as {@code enum}, are:
+ *
+ * <ul>
+ *   <li>{@code openenum.resolutions}: the number of names resolved
+ *   <li>{@code openenum.resolutions.unknown}: the number of names that didn't match a constant
+ *   <li>{@code openenum.unknown.ratio}: the fraction of names that didn't match a constant
+ *   <li>{@code openenum.unknown.distinct}: an estimate of the number of distinct unknown names
+ *   <li>{@code openenum.unknown.cache.gets}: lookups in the resolver's unknown value cache, tagged
+ *       with {@code result} of {@code hit} or {@code miss}
+ * </ul>
+ *
+ * <p>Like other Micrometer meters, these only hold a weak reference to the resolver's statistics.
+ *
+ * <pre>{@code
+ * OpenEnumResolver<AccountType> resolver =
+ *     OpenEnumResolverMetrics.monitor(
+ *         registry, OpenEnumResolver.builder(AccountType.class).recordStats(true).build());
+ * }</pre>
+ */
+public final class OpenEnumResolverMetrics implements MeterBinder {
+  private final OpenEnumResolver<?> resolver;
+  private final Iterable<Tag> tags;
+
+  /**
+   * Create a binder for a resolver.
+   *
+   * @param resolver the resolver to report the statistics of
+   * @param tags tags to add to every meter, as well as {@code enum}
+   */
+  public OpenEnumResolverMetrics(OpenEnumResolver<?> resolver, Iterable<Tag> tags) {
+    if (resolver == null) {
+      throw new IllegalArgumentException("resolver cannot be null");
+    }
+    this.resolver = resolver;
+    this.tags = Tags.concat(tags, "enum", resolver.getEnumType().getName());
+  }
+
+  /**
+   * Report the statistics of a resolver to a registry.
+   *
+   * @param registry the registry to add the meters to
+   * @param resolver the resolver to report the statistics of
+   * @param tags tags to add to every meter, as alternating keys and values
+   * @return {@code resolver}
+   * @param <T> type of the enum
+   * @throws IllegalStateException if the resolver doesn't record statistics
+   */
+  public static <T extends Enum<T>> OpenEnumResolver<T> monitor(
+      MeterRegistry registry, OpenEnumResolver<T> resolver, String... tags) {
+    new OpenEnumResolverMetrics(resolver, Tags.of(tags)).bindTo(registry);
+    return resolver;
+  }
+
+  /**
+   * Add the meters to a registry.
+   *
+   * @param registry the registry to add the meters to
+   * @throws IllegalStateException if the resolver doesn't record statistics
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    ResolverStatsRecorder stats = resolver.statsRecorder();
+    FunctionCounter.builder("openenum.resolutions", stats, ResolverStatsRecorder::resolutionCount)
+        .tags(tags)
+        .description("The number of names resolved")
+        .register(registry);
+    FunctionCounter.builder(
+            "openenum.resolutions.unknown", stats, ResolverStatsRecorder::unknownCount)
+        .tags(tags)
+        .description("The number of names resolved that didn't match a constant")
+        .register(registry);
+    Gauge.builder("openenum.unknown.ratio", stats, ResolverStatsRecorder::unknownRate)
+        .tags(tags)
+        .description("The fraction of names resolved that didn't match a constant")
+        .register(registry);
+    Gauge.builder("openenum.unknown.distinct", stats, ResolverStatsRecorder::distinctUnknownCount)
+        .tags(tags)
+        .description("An estimate of the number of distinct names that didn't match a constant")
+        .register(registry);
+    FunctionCounter.builder(
+            "openenum.unknown.cache.gets", stats, ResolverStatsRecorder::cacheHitCount)
+        .tags(tags)
+        .tag("result", "hit")
+        .description("Lookups of unknown names in the resolver's cache")
+        .register(registry);
+    FunctionCounter.builder(
+            "openenum.unknown.cache.gets", stats, ResolverStatsRecorder::cacheMissCount)
+        .tags(tags)
+        .tag("result", "miss")
+        .description("Lookups of unknown names in the resolver's cache")
+        .register(registry);
+  }
+}
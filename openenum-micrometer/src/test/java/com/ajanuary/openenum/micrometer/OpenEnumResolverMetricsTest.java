@@ -0,0 +1,114 @@
+package com.ajanuary.openenum.micrometer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ajanuary.openenum.OpenEnumResolver;
+import com.ajanuary.openenum.UnknownValueCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumResolverMetricsTest {
+  enum AccountType {
+    Standard,
+    Enterprise
+  }
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void reports_resolution_counts() {
+    OpenEnumResolver<AccountType> resolver =
+        OpenEnumResolverMetrics.monitor(
+            registry, OpenEnumResolver.builder(AccountType.class).recordStats(true).build());
+
+    resolver.resolve("Standard");
+    resolver.resolve("Premium");
+    resolver.resolve("Premium");
+    resolver.resolve("Basic");
+
+    assertEquals(4, registry.get("openenum.resolutions").functionCounter().count());
+    assertEquals(3, registry.get("openenum.resolutions.unknown").functionCounter().count());
+    assertEquals(0.75, registry.get("openenum.unknown.ratio").gauge().value());
+    assertEquals(2, registry.get("openenum.unknown.distinct").gauge().value());
+  }
+
+  @Test
+  void reports_cache_hits_and_misses() {
+    OpenEnumResolver<AccountType> resolver =
+        OpenEnumResolverMetrics.monitor(
+            registry,
+            OpenEnumResolver.builder(AccountType.class)
+                .unknownCache(UnknownValueCache.withMaximumSize(10))
+                .recordStats(true)
+                .build());
+
+    resolver.resolve("Premium");
+    resolver.resolve("Premium");
+
+    assertEquals(
+        1,
+        registry.get("openenum.unknown.cache.gets").tag("result", "hit").functionCounter().count());
+    assertEquals(
+        1,
+        registry
+            .get("openenum.unknown.cache.gets")
+            .tag("result", "miss")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void reports_only_own_lookups_of_shared_cache() {
+    UnknownValueCache<AccountType, String> cache = UnknownValueCache.withMaximumSize(10);
+    OpenEnumResolver<AccountType> resolver =
+        OpenEnumResolverMetrics.monitor(
+            registry,
+            OpenEnumResolver.builder(AccountType.class)
+                .unknownCache(cache)
+                .recordStats(true)
+                .build());
+    OpenEnumResolver<AccountType> other =
+        OpenEnumResolver.builder(AccountType.class).unknownCache(cache).build();
+
+    other.resolve("Premium");
+    resolver.resolve("Premium");
+
+    assertEquals(
+        1,
+        registry.get("openenum.unknown.cache.gets").tag("result", "hit").functionCounter().count());
+    assertEquals(
+        0,
+        registry
+            .get("openenum.unknown.cache.gets")
+            .tag("result", "miss")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void tags_meters_with_enum_and_given_tags() {
+    OpenEnumResolverMetrics.monitor(
+        registry,
+        OpenEnumResolver.builder(AccountType.class).recordStats(true).build(),
+        "service",
+        "billing");
+
+    assertEquals(
+        0,
+        registry
+            .get("openenum.resolutions")
+            .tag("enum", AccountType.class.getName())
+            .tag("service", "billing")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void resolver_must_record_stats() {
+    OpenEnumResolver<AccountType> resolver = OpenEnumResolver.forEnum(AccountType.class);
+
+    assertThrows(
+        IllegalStateException.class, () -> OpenEnumResolverMetrics.monitor(registry, resolver));
+  }
+}
@@ -0,0 +1,226 @@
+package com.ajanuary.openenum.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates resolvers for enums annotated with {@code @OpenEnumResolvable}.
+ *
+ * <p>For an enum {@code AccountType}, generates an {@code AccountTypeResolver} class in the same
+ * package with a static {@code resolve(String)} method. The method is a {@code switch} on the name,
+ * which javac compiles to a {@code hashCode} lookup followed by an {@code equals} check, so no
+ * tables are built at runtime and the JIT sees straight-line code.
+ *
+ * <p>Constants annotated with {@code @WireName} are matched by the names in the annotation, in the
+ * same way as {@code OpenEnumResolver}.
+ *
+ * <p>The processor also claims {@code @WireName}, so that builds using {@code -Xlint:all -Werror}
+ * don't fail with a warning that no processor claimed it. For the same reason, the resolvers it
+ * writes name their generator in a comment rather than with {@code @Generated}, which no processor
+ * owns.
+ */
+@SupportedAnnotationTypes({
+  OpenEnumResolverProcessor.ANNOTATION,
+  OpenEnumResolverProcessor.WIRE_NAME
+})
+public final class OpenEnumResolverProcessor extends AbstractProcessor {
+  static final String ANNOTATION = "com.ajanuary.openenum.OpenEnumResolvable";
+  static final String WIRE_NAME = "com.ajanuary.openenum.WireName";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      if (!annotation.getQualifiedName().contentEquals(ANNOTATION)) {
+        continue;
+      }
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.ENUM) {
+          error(element, "@OpenEnumResolvable can only be applied to enums");
+          continue;
+        }
+        TypeElement enumElement = (TypeElement) element;
+        if (!isAccessibleFromPackage(enumElement)) {
+          error(element, "@OpenEnumResolvable enums must not be private");
+          continue;
+        }
+        try {
+          writeResolver(enumElement);
+        } catch (IOException e) {
+          error(element, "Could not write resolver: " + e.getMessage());
+        }
+      }
+    }
+    return true;
+  }
+
+  private void writeResolver(TypeElement enumElement) throws IOException {
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(enumElement);
+    String packageName = packageElement.getQualifiedName().toString();
+    String enumName = enumElement.getQualifiedName().toString();
+    if (!packageName.isEmpty()) {
+      enumName = enumName.substring(packageName.length() + 1);
+    }
+    String resolverName = enumName.replace('.', '_') + "Resolver";
+    boolean isPublic = isPublic(enumElement);
+
+    Map<String, String> constants = new LinkedHashMap<>();
+    for (Element enclosed : enumElement.getEnclosedElements()) {
+      if (enclosed.getKind() != ElementKind.ENUM_CONSTANT) {
+        continue;
+      }
+      String constant = enclosed.getSimpleName().toString();
+      List<String> names = wireNames(enclosed);
+      if (names.isEmpty()) {
+        error(enclosed, "@WireName must have at least one name");
+        return;
+      }
+      for (String name : names) {
+        String previous = constants.putIfAbsent(name, constant);
+        if (previous != null && !previous.equals(constant)) {
+          error(enclosed, "\"" + name + "\" is a name of both " + previous + " and " + constant);
+          return;
+        }
+      }
+    }
+
+    String qualifiedResolverName =
+        packageName.isEmpty() ? resolverName : packageName + "." + resolverName;
+    JavaFileObject file =
+        processingEnv.getFiler().createSourceFile(qualifiedResolverName, enumElement);
+    try (Writer writer = file.openWriter()) {
+      writer.write(
+          generateSource(
+              packageName, enumName, resolverName, isPublic, constants, getClass().getName()));
+    }
+  }
+
+  private static String generateSource(
+      String packageName,
+      String enumName,
+      String resolverName,
+      boolean isPublic,
+      Map<String, String> constants,
+      String generator) {
+    String visibility = isPublic ? "public " : "";
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("import com.ajanuary.openenum.OpenEnum;\n\n");
+    source.append("// Generated by ").append(generator).append(".\n");
+    source.append("/** Resolves names to {@link ").append(enumName).append("} values. */\n");
+    source.append(visibility).append("final class ").append(resolverName).append(" {\n");
+    source.append("  private ").append(resolverName).append("() {}\n\n");
+    source.append("  /**\n");
+    source.append("   * Resolve a name to an OpenEnum.\n");
+    source.append("   *\n");
+    source.append("   * @param name the name to resolve. May be null.\n");
+    source.append("   * @return an {@code OpenEnum} containing the constant with the given ");
+    source.append("name if there is one,\n");
+    source.append("   *     otherwise an {@code OpenEnum} containing the name as an unknown ");
+    source.append("value\n");
+    source.append("   */\n");
+    source.append("  ").append(visibility).append("static OpenEnum<").append(enumName);
+    source.append(", String> resolve(String name) {\n");
+    source.append("    if (name == null) {\n");
+    source.append("      return OpenEnum.fromUnknown(null);\n");
+    source.append("    }\n");
+    source.append("    switch (name) {\n");
+    for (Map.Entry<String, String> constant : constants.entrySet()) {
+      source.append("      case \"").append(escape(constant.getKey())).append("\":\n");
+      source.append("        return OpenEnum.fromEnum(").append(enumName).append('.');
+      source.append(escape(constant.getValue())).append(");\n");
+    }
+    source.append("      default:\n");
+    source.append("        return OpenEnum.fromUnknown(name);\n");
+    source.append("    }\n");
+    source.append("  }\n");
+    source.append("}\n");
+    return source.toString();
+  }
+
+  /** Get the names a constant is matched by: its {@code @WireName} names, or its own name. */
+  private static List<String> wireNames(Element constant) {
+    for (AnnotationMirror mirror : constant.getAnnotationMirrors()) {
+      TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+      if (!type.getQualifiedName().contentEquals(WIRE_NAME)) {
+        continue;
+      }
+      List<String> names = new ArrayList<>();
+      for (AnnotationValue value : mirror.getElementValues().values()) {
+        for (Object name : (List<?>) value.getValue()) {
+          names.add((String) ((AnnotationValue) name).getValue());
+        }
+      }
+      return names;
+    }
+    return List.of(constant.getSimpleName().toString());
+  }
+
+  /**
+   * Escape a name for use in a string literal. Non-ASCII characters are escaped too, so the
+   * generated source doesn't depend on the file encoding.
+   */
+  private static String escape(String name) {
+    StringBuilder escaped = new StringBuilder();
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '"' || c == '\\') {
+        escaped.append('\\').append(c);
+      } else if (c < 0x20) {
+        // Unicode escapes of line terminators would end the literal, so use octal escapes.
+        escaped.append(String.format("\\%03o", (int) c));
+      } else if (c > 0x7e) {
+        escaped.append(String.format("\\u%04x", (int) c));
+      } else {
+        escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  private static boolean isPublic(TypeElement element) {
+    for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAccessibleFromPackage(TypeElement element) {
+    for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (e.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
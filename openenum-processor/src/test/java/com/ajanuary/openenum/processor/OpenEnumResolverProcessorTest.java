@@ -0,0 +1,264 @@
+package com.ajanuary.openenum.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ajanuary.openenum.OpenEnum;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumResolverProcessorTest {
+  @Test
+  void generates_resolver_that_resolves_constant_names() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType { Standard, Business, Enterprise }\n");
+
+    OpenEnum<?, ?> openEnum = compilation.resolve("example.AccountTypeResolver", "Business");
+
+    assertTrue(openEnum.isEnumValue());
+    assertEquals("Business", openEnum.getEnumValue().name());
+  }
+
+  @Test
+  void generated_resolver_returns_canonical_instances() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType { Standard }\n");
+
+    OpenEnum<?, ?> first = compilation.resolve("example.AccountTypeResolver", "Standard");
+    OpenEnum<?, ?> second = compilation.resolve("example.AccountTypeResolver", "Standard");
+
+    assertSame(first, second);
+  }
+
+  @Test
+  void generated_resolver_resolves_other_names_to_unknown() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType { Standard }\n");
+
+    OpenEnum<?, ?> openEnum = compilation.resolve("example.AccountTypeResolver", "standard");
+
+    assertTrue(openEnum.isUnknownValue());
+    assertEquals("standard", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void generated_resolver_resolves_null_to_unknown() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType { Standard }\n");
+
+    OpenEnum<?, ?> openEnum = compilation.resolve("example.AccountTypeResolver", null);
+
+    assertTrue(openEnum.isUnknownValue());
+    assertNull(openEnum.getUnknownValue());
+  }
+
+  @Test
+  void names_resolver_for_nested_enum_after_enclosing_classes() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.Outer",
+            "package example;\n"
+                + "public class Outer {\n"
+                + "  @com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "  enum AccountType { Standard, \\u00c9lite }\n"
+                + "}\n");
+
+    OpenEnum<?, ?> openEnum =
+        compilation.resolve("example.Outer_AccountTypeResolver", "\u00c9lite");
+
+    assertEquals("\u00c9lite", openEnum.getEnumValue().name());
+  }
+
+  @Test
+  void generated_resolver_resolves_wire_names() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "import com.ajanuary.openenum.WireName;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType {\n"
+                + "  @WireName({\"enterprise-plus\", \"\\\"quoted\\\"\"}) EnterprisePlus,\n"
+                + "  Standard\n"
+                + "}\n");
+
+    OpenEnum<?, ?> wireName = compilation.resolve("example.AccountTypeResolver", "enterprise-plus");
+    OpenEnum<?, ?> alias = compilation.resolve("example.AccountTypeResolver", "\"quoted\"");
+    OpenEnum<?, ?> name = compilation.resolve("example.AccountTypeResolver", "EnterprisePlus");
+
+    assertEquals("EnterprisePlus", wireName.getEnumValue().name());
+    assertSame(wireName, alias);
+    assertTrue(name.isUnknownValue());
+  }
+
+  @Test
+  void claims_wire_names_without_lint_warnings() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "import com.ajanuary.openenum.WireName;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType {\n"
+                + "  @WireName(\"enterprise-plus\") EnterprisePlus,\n"
+                + "  Standard\n"
+                + "}\n",
+            "-Xlint:all",
+            "-Werror");
+
+    assertTrue(compilation.success, compilation.diagnostics);
+    assertEquals("[]", compilation.diagnostics);
+  }
+
+  @Test
+  void ignores_wire_names_on_enums_without_resolvers() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "public enum AccountType {\n"
+                + "  @com.ajanuary.openenum.WireName(\"enterprise-plus\") EnterprisePlus\n"
+                + "}\n",
+            "-Xlint:all",
+            "-Werror");
+
+    assertTrue(compilation.success, compilation.diagnostics);
+    assertEquals("[]", compilation.diagnostics);
+  }
+
+  @Test
+  void rejects_names_shared_by_constants() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.AccountType",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public enum AccountType {\n"
+                + "  @com.ajanuary.openenum.WireName(\"Standard\") Basic,\n"
+                + "  Standard\n"
+                + "}\n");
+
+    assertFalse(compilation.success);
+    assertTrue(compilation.diagnostics.contains("is a name of both Basic and Standard"));
+  }
+
+  @Test
+  void rejects_annotation_on_non_enum() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.NotAnEnum",
+            "package example;\n"
+                + "@com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "public class NotAnEnum {}\n");
+
+    assertFalse(compilation.success);
+    assertTrue(compilation.diagnostics.contains("can only be applied to enums"));
+  }
+
+  @Test
+  void rejects_private_enum() throws Exception {
+    Compilation compilation =
+        compile(
+            "example.Outer",
+            "package example;\n"
+                + "public class Outer {\n"
+                + "  @com.ajanuary.openenum.OpenEnumResolvable\n"
+                + "  private enum AccountType { Standard }\n"
+                + "}\n");
+
+    assertFalse(compilation.success);
+    assertTrue(compilation.diagnostics.contains("must not be private"));
+  }
+
+  private static Compilation compile(String className, String source, String... options)
+      throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    Path output = Files.createTempDirectory("openenum-processor-test");
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, null)) {
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+      fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(output.toFile()));
+      JavaFileObject file =
+          new SimpleJavaFileObject(
+              URI.create("string:///" + className.replace('.', '/') + ".java"),
+              JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+              return source;
+            }
+          };
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              new StringWriter(), fileManager, diagnostics, options(options), null, List.of(file));
+      task.setProcessors(List.of(new OpenEnumResolverProcessor()));
+      boolean success = task.call();
+      return new Compilation(success, output, diagnostics.getDiagnostics().toString());
+    }
+  }
+
+  private static List<String> options(String... options) {
+    List<String> all = new ArrayList<>(List.of(options));
+    all.add("-classpath");
+    all.add(System.getProperty("java.class.path"));
+    return all;
+  }
+
+  private static final class Compilation {
+    private final boolean success;
+    private final String diagnostics;
+    private final ClassLoader classLoader;
+
+    Compilation(boolean success, Path output, String diagnostics) throws IOException {
+      this.success = success;
+      this.diagnostics = diagnostics;
+      this.classLoader =
+          new URLClassLoader(
+              new URL[] {output.toUri().toURL()},
+              OpenEnumResolverProcessorTest.class.getClassLoader());
+    }
+
+    OpenEnum<?, ?> resolve(String resolverName, String name) throws Exception {
+      assertTrue(success, diagnostics);
+      Method resolve =
+          classLoader.loadClass(resolverName).getDeclaredMethod("resolve", String.class);
+      resolve.setAccessible(true);
+      return (OpenEnum<?, ?>) resolve.invoke(null, name);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.ajanuary.openenum;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@link OpenEnumResolver#resolveAll} and {@link OpenEnumResolver#resolveOrdinals}
+ * scale with the number of threads, against resolving the same names in a loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchResolverBenchmark {
+  private static final int SIZE = 1_000_000;
+
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  @Param({"1", "2", "4", "8"})
+  public int threads;
+
+  private final OpenEnumResolver<AccountType> resolver =
+      OpenEnumResolver.forEnum(AccountType.class);
+  private final String[] names = new String[SIZE];
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final OpenEnum<AccountType, String>[] values = new OpenEnum[SIZE];
+
+  private final int[] ordinals = new int[SIZE];
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    AccountType[] constants = AccountType.values();
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      int r = random.nextInt(constants.length * 10 + 1);
+      names[i] =
+          r < constants.length * 10
+              ? constants[r % constants.length].name()
+              : "Unknown" + random.nextInt(10);
+    }
+    // The calling thread resolves too, so it takes one fewer helper than threads.
+    executor = Executors.newFixedThreadPool(Math.max(1, threads - 1));
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public OpenEnum<AccountType, String>[] loop() {
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = resolver.resolve(names[i]);
+    }
+    return values;
+  }
+
+  @Benchmark
+  public OpenEnum<AccountType, String>[] resolveAll() {
+    resolver.resolveAll(names, values, executor, threads);
+    return values;
+  }
+
+  @Benchmark
+  public int[] resolveOrdinals() {
+    resolver.resolveOrdinals(names, ordinals, executor, threads);
+    return ordinals;
+  }
+}
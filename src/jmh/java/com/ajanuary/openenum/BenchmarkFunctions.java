@@ -0,0 +1,142 @@
+package com.ajanuary.openenum;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The functions that benchmarks pass to {@link OpenEnum}, shared so that every benchmark measures
+ * the same call sites.
+ *
+ * <p>There are {@value #COUNT} of each kind, so cycling through them makes a call site megamorphic.
+ * Every mapper returns a value in the range that {@link Integer#valueOf(int)} caches, so boxing the
+ * result doesn't allocate and only the method under test can. Consumers write to a sink, which
+ * benchmarks return so that the work isn't eliminated.
+ */
+final class BenchmarkFunctions {
+  static final int COUNT = 4;
+
+  private int sink;
+
+  /**
+   * Create the first {@code count} enum mappers.
+   *
+   * @param count the number of mappers, at most {@value #COUNT}
+   * @return the mappers
+   * @param <T> type of the enum
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Enum<T>> Function<T, Integer>[] enumMappers(int count) {
+    Function<T, Integer>[] mappers = (Function<T, Integer>[]) new Function<?, ?>[count];
+    for (int i = 0; i < count; i++) {
+      mappers[i] = enumMapper(i);
+    }
+    return mappers;
+  }
+
+  /**
+   * Create the first {@code count} unknown value mappers.
+   *
+   * @param count the number of mappers, at most {@value #COUNT}
+   * @return the mappers
+   */
+  @SuppressWarnings("unchecked")
+  static Function<String, Integer>[] unknownMappers(int count) {
+    Function<String, Integer>[] mappers = (Function<String, Integer>[]) new Function<?, ?>[count];
+    for (int i = 0; i < count; i++) {
+      mappers[i] = unknownMapper(i);
+    }
+    return mappers;
+  }
+
+  /**
+   * Create the first {@code count} enum consumers, which write to this sink.
+   *
+   * @param count the number of consumers, at most {@value #COUNT}
+   * @return the consumers
+   * @param <T> type of the enum
+   */
+  @SuppressWarnings("unchecked")
+  <T extends Enum<T>> Consumer<T>[] enumConsumers(int count) {
+    Consumer<T>[] consumers = (Consumer<T>[]) new Consumer<?>[count];
+    for (int i = 0; i < count; i++) {
+      consumers[i] = enumConsumer(i);
+    }
+    return consumers;
+  }
+
+  /**
+   * Create the first {@code count} unknown value consumers, which write to this sink.
+   *
+   * @param count the number of consumers, at most {@value #COUNT}
+   * @return the consumers
+   */
+  @SuppressWarnings("unchecked")
+  Consumer<String>[] unknownConsumers(int count) {
+    Consumer<String>[] consumers = (Consumer<String>[]) new Consumer<?>[count];
+    for (int i = 0; i < count; i++) {
+      consumers[i] = unknownConsumer(i);
+    }
+    return consumers;
+  }
+
+  /**
+   * Get the value written by the consumers.
+   *
+   * @return the sink
+   */
+  int sink() {
+    return sink;
+  }
+
+  private static <T extends Enum<T>> Function<T, Integer> enumMapper(int i) {
+    switch (i) {
+      case 0:
+        return Enum::ordinal;
+      case 1:
+        return e -> e.name().length() & 0x7f;
+      case 2:
+        return e -> e.hashCode() & 0x7f;
+      default:
+        return e -> -e.ordinal();
+    }
+  }
+
+  private static Function<String, Integer> unknownMapper(int i) {
+    switch (i) {
+      case 0:
+        return u -> u.length() & 0x7f;
+      case 1:
+        return u -> u.hashCode() & 0x7f;
+      case 2:
+        return u -> u.charAt(0) & 0x7f;
+      default:
+        return u -> -(u.length() & 0x7f);
+    }
+  }
+
+  private <T extends Enum<T>> Consumer<T> enumConsumer(int i) {
+    switch (i) {
+      case 0:
+        return e -> sink += e.ordinal();
+      case 1:
+        return e -> sink += e.name().length();
+      case 2:
+        return e -> sink ^= e.hashCode();
+      default:
+        return e -> sink -= e.ordinal();
+    }
+  }
+
+  private Consumer<String> unknownConsumer(int i) {
+    switch (i) {
+      case 0:
+        return u -> sink += u.length();
+      case 1:
+        return u -> sink ^= u.hashCode();
+      case 2:
+        return u -> sink += u.charAt(0);
+      default:
+        return u -> sink -= u.length();
+    }
+  }
+}
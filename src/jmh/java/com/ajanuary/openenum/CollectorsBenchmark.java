@@ -0,0 +1,73 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares counting a list of OpenEnums with {@code Collectors.groupingBy(..., counting())} against
+ * {@link OpenEnumCollectors#counting}, sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectorsBenchmark {
+  private static final int SIZE = 100_000;
+
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private final List<OpenEnum<AccountType, String>> list = new ArrayList<>(SIZE);
+
+  @Setup
+  public void setUp() {
+    AccountType[] constants = AccountType.values();
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      int r = random.nextInt(constants.length * 10 + 1);
+      list.add(
+          r < constants.length * 10
+              ? OpenEnum.fromEnum(constants[r % constants.length])
+              : OpenEnum.fromUnknown("Unknown" + random.nextInt(10)));
+    }
+  }
+
+  @Benchmark
+  public Map<OpenEnum<AccountType, String>, Long> groupingByCounting() {
+    return list.stream().collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+  }
+
+  @Benchmark
+  public OpenEnumMap<AccountType, String, Long> openEnumCounting() {
+    return list.stream().collect(OpenEnumCollectors.counting(AccountType.class));
+  }
+
+  @Benchmark
+  public Map<OpenEnum<AccountType, String>, Long> parallelGroupingByCounting() {
+    return list.parallelStream().collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+  }
+
+  @Benchmark
+  public OpenEnumMap<AccountType, String, Long> parallelOpenEnumCounting() {
+    return list.parallelStream().collect(OpenEnumCollectors.counting(AccountType.class));
+  }
+}
@@ -0,0 +1,41 @@
+package com.ajanuary.openenum;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link OpenEnum#fromEnum}.
+ *
+ * <p>Run with the {@code gc} profiler; {@code gc.alloc.rate.norm} should be 0 B/op, as known values
+ * are canonical and never allocated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FromEnumBenchmark {
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private final AccountType[] values = AccountType.values();
+  private int index;
+
+  @Benchmark
+  public OpenEnum<AccountType, String> fromEnum() {
+    index = (index + 1) % values.length;
+    return OpenEnum.fromEnum(values[index]);
+  }
+}
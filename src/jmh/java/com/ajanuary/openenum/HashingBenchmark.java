@@ -0,0 +1,76 @@
+package com.ajanuary.openenum;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link OpenEnum#hashCode} and {@link OpenEnum#equals} when {@code OpenEnum} values are
+ * used as hash map keys.
+ *
+ * <p>Run with the {@code gc} profiler; none of these should allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashingBenchmark {
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private final Map<OpenEnum<AccountType, String>, Long> totals = new HashMap<>();
+  private final OpenEnum<AccountType, String> equalUnknown = OpenEnum.fromUnknown("Premium");
+  private OpenEnum<AccountType, String>[] keys;
+
+  @Setup
+  public void setUp() {
+    @SuppressWarnings("unchecked")
+    OpenEnum<AccountType, String>[] keys =
+        (OpenEnum<AccountType, String>[])
+            new OpenEnum<?, ?>[] {
+              OpenEnum.fromEnum(AccountType.Standard),
+              OpenEnum.fromEnum(AccountType.Business),
+              OpenEnum.fromEnum(AccountType.Enterprise),
+              OpenEnum.fromUnknown("Premium")
+            };
+    this.keys = keys;
+    for (OpenEnum<AccountType, String> key : keys) {
+      totals.put(key, 0L);
+    }
+  }
+
+  @Benchmark
+  public void hashCodes(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> key : keys) {
+      blackhole.consume(key.hashCode());
+    }
+  }
+
+  @Benchmark
+  public void equalUnknownValues(Blackhole blackhole) {
+    blackhole.consume(keys[3].equals(equalUnknown));
+  }
+
+  @Benchmark
+  public void mapLookups(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> key : keys) {
+      blackhole.consume(totals.get(key));
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.ajanuary.openenum;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares decoding int codes with a boxed {@code Map<Integer, T>} into {@code OpenEnum<T,
+ * Integer>}, against {@link OpenIntEnumResolver} with dense and sparse codes.
+ *
+ * <p>Run with the {@code gc} profiler; the codes include unknown codes outside the {@code Integer}
+ * cache, which the boxed version allocates an {@code Integer} for.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntResolverBenchmark {
+  enum Status {
+    Ok(0, 0),
+    Cancelled(1, 1 << 10),
+    Unknown(2, 1 << 20),
+    InvalidArgument(3, 1 << 30);
+
+    private final int denseCode;
+    private final int sparseCode;
+
+    Status(int denseCode, int sparseCode) {
+      this.denseCode = denseCode;
+      this.sparseCode = sparseCode;
+    }
+  }
+
+  private final int[] denseCodes = {0, 1, 2, 3, 1000};
+  private final int[] sparseCodes = {0, 1 << 10, 1 << 20, 1 << 30, 1000};
+  private final Map<Integer, Status> byCode = new HashMap<>();
+  private final OpenIntEnumResolver<Status> dense =
+      OpenIntEnumResolver.of(Status.class, s -> s.denseCode);
+  private final OpenIntEnumResolver<Status> sparse =
+      OpenIntEnumResolver.of(Status.class, s -> s.sparseCode);
+
+  public IntResolverBenchmark() {
+    for (Status status : Status.values()) {
+      byCode.put(status.denseCode, status);
+    }
+  }
+
+  @Benchmark
+  public void boxedMap(Blackhole blackhole) {
+    for (int code : denseCodes) {
+      Status status = byCode.get(code);
+      blackhole.consume(
+          status == null
+              ? OpenEnum.<Status, Integer>fromUnknown(code)
+              : OpenEnum.<Status, Integer>fromEnum(status));
+    }
+  }
+
+  @Benchmark
+  public void denseResolver(Blackhole blackhole) {
+    for (int code : denseCodes) {
+      blackhole.consume(dense.resolve(code));
+    }
+  }
+
+  @Benchmark
+  public void sparseResolver(Blackhole blackhole) {
+    for (int code : sparseCodes) {
+      blackhole.consume(sparse.resolve(code));
+    }
+  }
+}
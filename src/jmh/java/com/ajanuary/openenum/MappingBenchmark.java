@@ -0,0 +1,115 @@
+package com.ajanuary.openenum;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the fluent {@code map(...).orElse(...)} form with {@link OpenEnum#fold}, and the fluent
+ * {@code accept(...).orElse(...)} form with {@link OpenEnum#handle}, when the functions are
+ * megamorphic.
+ *
+ * <p>Each invocation cycles through several different functions, created once per trial, so the
+ * call sites inside {@code orElse}, {@code fold} and {@code handle} see more receiver types than
+ * the JIT will inline, and no function is allocated in the measured loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private final OpenEnum<AccountType, String>[] values = createValues();
+
+  private final Function<AccountType, Integer>[] enumMappers =
+      BenchmarkFunctions.enumMappers(BenchmarkFunctions.COUNT);
+
+  private final Function<String, Integer>[] unknownMappers =
+      BenchmarkFunctions.unknownMappers(BenchmarkFunctions.COUNT);
+
+  private final BenchmarkFunctions functions = new BenchmarkFunctions();
+
+  private final Consumer<AccountType>[] enumConsumers =
+      functions.enumConsumers(BenchmarkFunctions.COUNT);
+
+  private final Consumer<String>[] unknownConsumers =
+      functions.unknownConsumers(BenchmarkFunctions.COUNT);
+
+  private final OpenEnumMapper<AccountType, String, Integer> mapper =
+      OpenEnumMapper.of(AccountType.class, e -> e.name().length(), String::length);
+
+  private int index;
+
+  @Benchmark
+  public void mapOrElse(Blackhole blackhole) {
+    for (int i = 0; i < values.length; i++) {
+      int mapper = (index + i) % enumMappers.length;
+      blackhole.consume(values[i].map(enumMappers[mapper]).orElse(unknownMappers[mapper]));
+    }
+    index++;
+  }
+
+  @Benchmark
+  public void fold(Blackhole blackhole) {
+    for (int i = 0; i < values.length; i++) {
+      int mapper = (index + i) % enumMappers.length;
+      blackhole.consume(values[i].fold(enumMappers[mapper], unknownMappers[mapper]));
+    }
+    index++;
+  }
+
+  @Benchmark
+  public void mapper(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(mapper.apply(value));
+    }
+  }
+
+  @Benchmark
+  public int acceptOrElse() {
+    for (int i = 0; i < values.length; i++) {
+      int consumer = (index + i) % enumConsumers.length;
+      values[i].accept(enumConsumers[consumer]).orElse(unknownConsumers[consumer]);
+    }
+    index++;
+    return functions.sink();
+  }
+
+  @Benchmark
+  public int handle() {
+    for (int i = 0; i < values.length; i++) {
+      int consumer = (index + i) % enumConsumers.length;
+      values[i].handle(enumConsumers[consumer], unknownConsumers[consumer]);
+    }
+    index++;
+    return functions.sink();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static OpenEnum<AccountType, String>[] createValues() {
+    return (OpenEnum<AccountType, String>[])
+        new OpenEnum<?, ?>[] {
+          OpenEnum.fromEnum(AccountType.Standard),
+          OpenEnum.fromEnum(AccountType.Business),
+          OpenEnum.fromEnum(AccountType.Enterprise),
+          OpenEnum.fromUnknown("Premium")
+        };
+  }
+}
@@ -0,0 +1,162 @@
+package com.ajanuary.openenum;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the methods of an existing {@link OpenEnum}, which behave differently for enum and
+ * unknown values. Creating values and {@code getEnumValue}/{@code getUnknownValue} are measured by
+ * {@link OpenEnumValueBenchmark}.
+ *
+ * <p>Each invocation runs over {@value #SIZE} values, of which {@code knownPercent} percent are
+ * enum values and the rest are unknown values. {@code callSite} controls whether the functions
+ * passed to {@code map}, {@code accept}, {@code fold} and {@code handle} are always the same
+ * ({@code monomorphic}) or cycle between four different functions ({@code megamorphic}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(OpenEnumBenchmark.SIZE)
+public class OpenEnumBenchmark {
+  static final int SIZE = 1024;
+
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  @Param({"100", "99", "50"})
+  private int knownPercent;
+
+  @Param({"monomorphic", "megamorphic"})
+  private String callSite;
+
+  private OpenEnum<AccountType, String>[] values;
+  private OpenEnum<AccountType, String>[] otherValues;
+  private Function<AccountType, Integer>[] enumMappers;
+  private Function<String, Integer>[] unknownMappers;
+  private Consumer<AccountType>[] enumConsumers;
+  private Consumer<String>[] unknownConsumers;
+  private BenchmarkFunctions functions;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    Random random = new Random(42);
+    values = (OpenEnum<AccountType, String>[]) new OpenEnum<?, ?>[SIZE];
+    otherValues = (OpenEnum<AccountType, String>[]) new OpenEnum<?, ?>[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = randomValue(random);
+      otherValues[i] = randomValue(random);
+    }
+
+    int count = callSite.equals("megamorphic") ? BenchmarkFunctions.COUNT : 1;
+    functions = new BenchmarkFunctions();
+    enumMappers = BenchmarkFunctions.enumMappers(count);
+    unknownMappers = BenchmarkFunctions.unknownMappers(count);
+    enumConsumers = functions.enumConsumers(count);
+    unknownConsumers = functions.unknownConsumers(count);
+  }
+
+  @Benchmark
+  public void isEnumValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(value.isEnumValue());
+    }
+  }
+
+  @Benchmark
+  public void isUnknownValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(value.isUnknownValue());
+    }
+  }
+
+  @Benchmark
+  public void mapOrElse(Blackhole blackhole) {
+    for (int i = 0; i < SIZE; i++) {
+      int f = i % enumMappers.length;
+      blackhole.consume(values[i].map(enumMappers[f]).orElse(unknownMappers[f]));
+    }
+  }
+
+  @Benchmark
+  public void fold(Blackhole blackhole) {
+    for (int i = 0; i < SIZE; i++) {
+      int f = i % enumMappers.length;
+      blackhole.consume(values[i].fold(enumMappers[f], unknownMappers[f]));
+    }
+  }
+
+  @Benchmark
+  public int acceptOrElse() {
+    for (int i = 0; i < SIZE; i++) {
+      int f = i % enumConsumers.length;
+      values[i].accept(enumConsumers[f]).orElse(unknownConsumers[f]);
+    }
+    return functions.sink();
+  }
+
+  @Benchmark
+  public int handle() {
+    for (int i = 0; i < SIZE; i++) {
+      int f = i % enumConsumers.length;
+      values[i].handle(enumConsumers[f], unknownConsumers[f]);
+    }
+    return functions.sink();
+  }
+
+  @Benchmark
+  public void asOptional(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(value.asOptional());
+    }
+  }
+
+  @Benchmark
+  public void equalsValue(Blackhole blackhole) {
+    for (int i = 0; i < SIZE; i++) {
+      blackhole.consume(values[i].equals(otherValues[i]));
+    }
+  }
+
+  @Benchmark
+  public void hashCodeValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(value.hashCode());
+    }
+  }
+
+  @Benchmark
+  public void toStringValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : values) {
+      blackhole.consume(value.toString());
+    }
+  }
+
+  private OpenEnum<AccountType, String> randomValue(Random random) {
+    if (random.nextInt(100) < knownPercent) {
+      return OpenEnum.fromEnum(AccountType.values()[random.nextInt(AccountType.values().length)]);
+    }
+    return OpenEnum.fromUnknown("Unknown" + random.nextInt(4));
+  }
+}
@@ -0,0 +1,89 @@
+package com.ajanuary.openenum;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures creating an {@link OpenEnum} and getting its value back.
+ *
+ * <p>These methods only ever see one kind of value, so unlike {@link OpenEnumBenchmark} there is no
+ * mix of known and unknown values or of call sites to vary. Each invocation runs over {@value
+ * #SIZE} values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(OpenEnumValueBenchmark.SIZE)
+public class OpenEnumValueBenchmark {
+  static final int SIZE = 1024;
+
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private AccountType[] enumValues;
+  private String[] unknownValues;
+  private OpenEnum<AccountType, String>[] knownValues;
+  private OpenEnum<AccountType, String>[] unknownOpenEnums;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    Random random = new Random(42);
+    enumValues = new AccountType[SIZE];
+    unknownValues = new String[SIZE];
+    knownValues = (OpenEnum<AccountType, String>[]) new OpenEnum<?, ?>[SIZE];
+    unknownOpenEnums = (OpenEnum<AccountType, String>[]) new OpenEnum<?, ?>[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      enumValues[i] = AccountType.values()[random.nextInt(AccountType.values().length)];
+      unknownValues[i] = "Unknown" + random.nextInt(4);
+      knownValues[i] = OpenEnum.fromEnum(enumValues[i]);
+      unknownOpenEnums[i] = OpenEnum.fromUnknown(unknownValues[i]);
+    }
+  }
+
+  @Benchmark
+  public void fromEnum(Blackhole blackhole) {
+    for (AccountType enumValue : enumValues) {
+      blackhole.consume(OpenEnum.fromEnum(enumValue));
+    }
+  }
+
+  @Benchmark
+  public void fromUnknown(Blackhole blackhole) {
+    for (String unknownValue : unknownValues) {
+      blackhole.consume(OpenEnum.fromUnknown(unknownValue));
+    }
+  }
+
+  @Benchmark
+  public void getEnumValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : knownValues) {
+      blackhole.consume(value.getEnumValue());
+    }
+  }
+
+  @Benchmark
+  public void getUnknownValue(Blackhole blackhole) {
+    for (OpenEnum<AccountType, String> value : unknownOpenEnums) {
+      blackhole.consume(value.getUnknownValue());
+    }
+  }
+}
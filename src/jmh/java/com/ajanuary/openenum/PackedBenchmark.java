@@ -0,0 +1,96 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares counting the rows that hold a given constant in a {@code List<OpenEnum>}, against
+ * counting them in a {@code long[]} packed by {@link OpenEnumLongCodec}, and in an {@link
+ * OpenEnumColumn}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PackedBenchmark {
+  private static final int SIZE = 100_000;
+
+  enum AccountType {
+    Standard,
+    Business,
+    Enterprise
+  }
+
+  private final List<OpenEnum<AccountType, String>> list = new ArrayList<>(SIZE);
+  private final long[] packed = new long[SIZE];
+  private OpenEnumColumn<AccountType, String> column;
+
+  @Setup
+  public void setUp() {
+    OpenEnumLongCodec<AccountType, String> codec =
+        OpenEnumLongCodec.withDictionary(AccountType.class);
+    AccountType[] constants = AccountType.values();
+    OpenEnumColumn.Builder<AccountType, String> builder = OpenEnumColumn.builder(AccountType.class);
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      int r = random.nextInt(constants.length + 1);
+      OpenEnum<AccountType, String> value =
+          r < constants.length
+              ? OpenEnum.fromEnum(constants[r])
+              : OpenEnum.fromUnknown("Unknown" + random.nextInt(10));
+      list.add(value);
+      packed[i] = codec.encode(value);
+      builder.add(value);
+    }
+    column = builder.build();
+  }
+
+  @Benchmark
+  public int countList() {
+    int count = 0;
+    for (OpenEnum<AccountType, String> value : list) {
+      if (value.isEnumValue() && value.getEnumValue() == AccountType.Business) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int countPacked() {
+    int ordinal = AccountType.Business.ordinal();
+    int count = 0;
+    for (long value : packed) {
+      if (OpenEnumLongCodec.ordinal(value) == ordinal) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int countColumn() {
+    return column.countByConstant()[AccountType.Business.ordinal()];
+  }
+
+  @Benchmark
+  public BitSet filterColumn() {
+    return column.filter(EnumSet.of(AccountType.Business));
+  }
+}
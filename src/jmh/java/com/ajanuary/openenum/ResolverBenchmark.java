@@ -0,0 +1,84 @@
+package com.ajanuary.openenum;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving names that differ in case by upper casing them first, against resolving them
+ * with a resolver that ignores case. Also measures the cost of counting unknown names with {@link
+ * UnknownValueTelemetry}.
+ *
+ * <p>Run with the {@code gc} profiler; the folding resolver shouldn't allocate for known names.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResolverBenchmark {
+  enum AccountType {
+    STANDARD,
+    BUSINESS,
+    ENTERPRISE_PLUS
+  }
+
+  private final String[] names = {"standard", "Business", "ENTERPRISE_PLUS", "enterprise-plus"};
+  private final OpenEnumResolver<AccountType> exact = OpenEnumResolver.forEnum(AccountType.class);
+  private final OpenEnumResolver<AccountType> ignoreCase =
+      OpenEnumResolver.builder(AccountType.class).ignoreAsciiCase(true).build();
+  private final OpenEnumResolver<AccountType> ignoreCaseAndSeparators =
+      OpenEnumResolver.builder(AccountType.class)
+          .ignoreAsciiCase(true)
+          .ignoreSeparators(true)
+          .build();
+  private final OpenEnumResolver<AccountType> exactWithTelemetry =
+      OpenEnumResolver.builder(AccountType.class)
+          .listener(UnknownValueTelemetry.withTrackedValues(10))
+          .build();
+
+  @Benchmark
+  public void upperCaseThenResolve(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(exact.resolve(name.toUpperCase(Locale.ROOT)));
+    }
+  }
+
+  @Benchmark
+  public void resolveIgnoringCase(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(ignoreCase.resolve(name));
+    }
+  }
+
+  @Benchmark
+  public void resolveIgnoringCaseAndSeparators(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(ignoreCaseAndSeparators.resolve(name));
+    }
+  }
+
+  @Benchmark
+  public void resolve(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(exact.resolve(name));
+    }
+  }
+
+  @Benchmark
+  public void resolveWithTelemetry(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(exactWithTelemetry.resolve(name));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.ajanuary.openenum;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import jdk.jfr.EventType;
+
+/**
+ * Emits an {@link UnknownValueEvent} to Java Flight Recorder for each unknown value.
+ *
+ * <pre>{@code
+ * OpenEnumResolver<AccountType> resolver =
+ *     OpenEnumResolver.builder(AccountType.class)
+ *         .listener(JfrUnknownValueListener.throttled(100))
+ *         .build();
+ * }</pre>
+ *
+ * <p>When no recording has the event enabled, the cost of an unknown value is a single check of the
+ * event type's {@link EventType#isEnabled}, and nothing is allocated.
+ *
+ * <p>A new upstream value can produce millions of unknown values a minute, so a throttled listener
+ * emits at most a given number of events a second. Each event records how many unknown values were
+ * dropped since the previous one, so totals can still be recovered from the recording.
+ */
+public final class JfrUnknownValueListener implements UnknownValueListener {
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final EventType EVENT_TYPE = EventType.getEventType(UnknownValueEvent.class);
+
+  private final int maxEventsPerSecond;
+  private final LongSupplier nanoTime;
+  private final AtomicLong windowStart;
+  private final AtomicInteger windowCount = new AtomicInteger();
+  private final LongAdder suppressed = new LongAdder();
+
+  private JfrUnknownValueListener(int maxEventsPerSecond, LongSupplier nanoTime) {
+    this.maxEventsPerSecond = maxEventsPerSecond;
+    this.nanoTime = nanoTime;
+    this.windowStart = new AtomicLong(nanoTime.getAsLong());
+  }
+
+  /**
+   * Create a listener that emits an event for every unknown value.
+   *
+   * @return a new listener
+   */
+  public static JfrUnknownValueListener create() {
+    return new JfrUnknownValueListener(Integer.MAX_VALUE, System::nanoTime);
+  }
+
+  /**
+   * Create a listener that emits at most a given number of events a second.
+   *
+   * @param maxEventsPerSecond the maximum number of events to emit in any one second. Must be
+   *     positive.
+   * @return a new listener
+   */
+  public static JfrUnknownValueListener throttled(int maxEventsPerSecond) {
+    return throttled(maxEventsPerSecond, System::nanoTime);
+  }
+
+  static JfrUnknownValueListener throttled(int maxEventsPerSecond, LongSupplier nanoTime) {
+    if (maxEventsPerSecond <= 0) {
+      throw new IllegalArgumentException("maxEventsPerSecond must be positive");
+    }
+    return new JfrUnknownValueListener(maxEventsPerSecond, nanoTime);
+  }
+
+  @Override
+  public void onUnknownValue(Class<?> enumType, Object unknownValue) {
+    if (!EVENT_TYPE.isEnabled()) {
+      return;
+    }
+    if (maxEventsPerSecond != Integer.MAX_VALUE && !tryAcquire()) {
+      suppressed.increment();
+      return;
+    }
+    UnknownValueEvent event = new UnknownValueEvent();
+    event.enumClass = enumType;
+    event.unknownValue = String.valueOf(unknownValue);
+    event.suppressedCount = suppressed.sumThenReset();
+    event.commit();
+  }
+
+  private boolean tryAcquire() {
+    long now = nanoTime.getAsLong();
+    long start = windowStart.get();
+    if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+      windowCount.set(0);
+    }
+    return windowCount.incrementAndGet() <= maxEventsPerSecond;
+  }
+}
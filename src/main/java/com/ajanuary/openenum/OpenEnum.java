@@ -18,6 +18,22 @@ import java.util.function.Function;
  * @param <U> type of the unknown value
  */
 public final class OpenEnum<T extends Enum<T>, U> {
+  /**
+   * The canonical {@code OpenEnum} instance for each constant of an enum, indexed by ordinal.
+   *
+   * <p>Known values hold no unknown value, so a single instance can be shared between every
+   * parameterisation of {@code U}. Using a {@link ClassValue} means the table is built lazily on
+   * first use, and doesn't prevent the enum's class loader from being unloaded.
+   */
+  private static final ClassValue<OpenEnum<?, ?>[]> KNOWN_VALUES =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected OpenEnum<?, ?>[] computeValue(Class<?> type) {
+          return createKnownValues((Class) type);
+        }
+      };
+
   private final T enumValue;
   private final U unknownValue;
 
@@ -29,6 +45,9 @@ public final class OpenEnum<T extends Enum<T>, U> {
   /**
    * Create an OpenEnum with a given enum value.
    *
+   * <p>Every call with the same enum value returns the same shared instance, so this never
+   * allocates.
+   *
    * @param enumValue the enum value to assign to the OpenEnum
    * @return an {@code OpenEnum} containing the given enum value. Must not be null.
    * @param <T> type of the enum
@@ -38,7 +57,7 @@ public final class OpenEnum<T extends Enum<T>, U> {
     if (enumValue == null) {
       throw new IllegalArgumentException("enumValue cannot be null");
     }
-    return new OpenEnum<>(enumValue, null);
+    return OpenEnum.<T, U>knownValues(enumValue.getDeclaringClass())[enumValue.ordinal()];
   }
 
   /**
@@ -53,6 +72,26 @@ public final class OpenEnum<T extends Enum<T>, U> {
     return new OpenEnum<>(null, unknownValue);
   }
 
+  /**
+   * Get the canonical instances for every constant of an enum, indexed by ordinal.
+   *
+   * <p>The returned array is shared, so it must not be modified.
+   */
+  static <T extends Enum<T>, U> OpenEnum<T, U>[] knownValues(Class<T> enumType) {
+    @SuppressWarnings("unchecked")
+    OpenEnum<T, U>[] knownValues = (OpenEnum<T, U>[]) KNOWN_VALUES.get(enumType);
+    return knownValues;
+  }
+
+  private static <T extends Enum<T>> OpenEnum<?, ?>[] createKnownValues(Class<T> enumType) {
+    T[] constants = enumType.getEnumConstants();
+    OpenEnum<?, ?>[] knownValues = new OpenEnum<?, ?>[constants.length];
+    for (T constant : constants) {
+      knownValues[constant.ordinal()] = new OpenEnum<T, Void>(constant, null);
+    }
+    return knownValues;
+  }
+
   /**
    * If an enum value is present, returns {@code true}, otherwise {@code false}.
    *
@@ -122,6 +161,42 @@ public final class OpenEnum<T extends Enum<T>, U> {
     return new ConsumingInProgress(enumConsumer);
   }
 
+  /**
+   * Apply one of two functions, depending on whether an enum value or an unknown value is present.
+   *
+   * <p>Equivalent to {@code map(enumMapper).orElse(unknownMapper)}, but without creating an
+   * intermediate {@link MappingInProgress}.
+   *
+   * @param enumMapper function to apply to the enum value, if one is present
+   * @param unknownMapper function to apply to the unknown value, if one is present
+   * @return the result of applying either the enum function to the enum value, or the unknown
+   *     function to the unknown value
+   * @param <V> return type of the functions
+   */
+  public <V> V fold(Function<T, V> enumMapper, Function<U, V> unknownMapper) {
+    if (enumValue == null) {
+      return unknownMapper.apply(unknownValue);
+    }
+    return enumMapper.apply(enumValue);
+  }
+
+  /**
+   * Apply one of two consumers, depending on whether an enum value or an unknown value is present.
+   *
+   * <p>Equivalent to {@code accept(enumConsumer).orElse(unknownConsumer)}, but without creating an
+   * intermediate {@link ConsumingInProgress}.
+   *
+   * @param enumConsumer consumer to apply to the enum value, if one is present
+   * @param unknownConsumer consumer to apply to the unknown value, if one is present
+   */
+  public void handle(Consumer<T> enumConsumer, Consumer<U> unknownConsumer) {
+    if (enumValue == null) {
+      unknownConsumer.accept(unknownValue);
+    } else {
+      enumConsumer.accept(enumValue);
+    }
+  }
+
   /**
    * If an enum is present, return an Optional containing the value. Otherwise return an empty
    * Optional value.
@@ -144,8 +219,7 @@ public final class OpenEnum<T extends Enum<T>, U> {
     if (!(o instanceof OpenEnum<?, ?> openEnum)) {
       return false;
     }
-    return enumValue.equals(openEnum.enumValue)
-        && Objects.equals(unknownValue, openEnum.unknownValue);
+    return enumValue == openEnum.enumValue && Objects.equals(unknownValue, openEnum.unknownValue);
   }
 
   @Override
@@ -158,7 +232,10 @@ public final class OpenEnum<T extends Enum<T>, U> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enumValue, unknownValue);
+    // Same result as Objects.hash(enumValue, unknownValue), without allocating a varargs array.
+    // Enum.hashCode is the identity hash, which the JVM caches in the object header, and known
+    // values are canonical, so for them this is effectively a precomputed constant.
+    return 31 * (31 + Objects.hashCode(enumValue)) + Objects.hashCode(unknownValue);
   }
 
   /**
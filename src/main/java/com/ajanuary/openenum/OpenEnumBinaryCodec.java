@@ -0,0 +1,407 @@
+package com.ajanuary.openenum;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Writes {@link OpenEnum} values in a compact binary form, and reads them back.
+ *
+ * <p>An enum value is written as its ordinal plus one, as an unsigned LEB128 varint, so enums of up
+ * to 127 constants take a single byte. An unknown value is written as a zero byte, followed by the
+ * length of its payload as a varint, and then the payload, which is converted to and from the
+ * unknown value by a pair of functions given to the builder.
+ *
+ * <p>A reader whose enum has more constants than the writer's reads every value correctly, as long
+ * as constants are only added at the end. If the reader's enum has fewer constants, an ordinal it
+ * doesn't recognize is read as an unknown value, created by a function given to the builder. To
+ * detect other changes, such as reordered constants, a writer can write the {@link #fingerprint} of
+ * its enum once at the start of a stream, and a reader can check it with {@link #readFingerprint}.
+ *
+ * <p>Alternatively, the codec can be given an {@link OpenIntEnumResolver} of stable IDs, such as
+ * one created by {@link OpenIntEnumResolver#ofAnnotated}, in which case enum values are written as
+ * their ID plus one instead of their ordinal. Constants can then be added, removed and reordered
+ * freely, and an ID the reader doesn't recognize is read as an unknown value.
+ *
+ * <p>Instances are safe to share between threads, if the functions given to the builder are.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ */
+public final class OpenEnumBinaryCodec<T extends Enum<T>, U> {
+  private static final int UNKNOWN_TAG = 0;
+  // The most bytes of a payload to allocate before they've been read.
+  private static final int PAYLOAD_CHUNK_SIZE = 8192;
+
+  private final OpenEnum<T, U>[] knownValues;
+  private final Function<U, byte[]> payloadEncoder;
+  private final Function<byte[], U> payloadDecoder;
+  private final IntFunction<U> unrecognized;
+  // Stable IDs, or null to write ordinals.
+  private final OpenIntEnumResolver<T> ids;
+  private final int fingerprint;
+
+  private OpenEnumBinaryCodec(Builder<T, U> builder) {
+    this.knownValues = OpenEnum.knownValues(builder.enumType);
+    this.payloadEncoder = builder.payloadEncoder;
+    this.payloadDecoder = builder.payloadDecoder;
+    this.unrecognized = builder.unrecognized;
+    this.ids = builder.ids;
+    this.fingerprint = fingerprint(builder.enumType, builder.ids);
+  }
+
+  /**
+   * Create a builder for a codec.
+   *
+   * @param enumType the class of the enum
+   * @return a new builder
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> Builder<T, U> builder(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new Builder<>(enumType);
+  }
+
+  /**
+   * Get the fingerprint of the enum.
+   *
+   * <p>The fingerprint is a hash of the names of the constants, in ordinal order. It changes
+   * whenever a constant is added, removed, renamed or moved. If the codec writes stable IDs, it is
+   * a hash of the names and IDs of the constants in order of ID instead, so it doesn't change when
+   * constants are moved.
+   *
+   * @return the fingerprint of the enum
+   */
+  public int fingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Write the fingerprint of the enum, as four big-endian bytes.
+   *
+   * @param out the buffer to write to
+   */
+  public void writeFingerprint(ByteBuffer out) {
+    out.putInt(fingerprint);
+  }
+
+  /**
+   * Write the fingerprint of the enum, as four big-endian bytes.
+   *
+   * @param out the output to write to
+   * @throws IOException if writing fails
+   */
+  public void writeFingerprint(DataOutput out) throws IOException {
+    out.writeInt(fingerprint);
+  }
+
+  /**
+   * Read a fingerprint written by {@link #writeFingerprint}, and compare it to this enum's.
+   *
+   * @param in the buffer to read from
+   * @return {@code true} if the fingerprint matches this enum's
+   */
+  public boolean readFingerprint(ByteBuffer in) {
+    return in.getInt() == fingerprint;
+  }
+
+  /**
+   * Read a fingerprint written by {@link #writeFingerprint}, and compare it to this enum's.
+   *
+   * @param in the input to read from
+   * @return {@code true} if the fingerprint matches this enum's
+   * @throws IOException if reading fails
+   */
+  public boolean readFingerprint(DataInput in) throws IOException {
+    return in.readInt() == fingerprint;
+  }
+
+  /**
+   * Write a value.
+   *
+   * @param openEnum the value to write
+   * @param out the buffer to write to
+   * @throws java.nio.BufferOverflowException if {@code out} doesn't have room for the value
+   */
+  public void write(OpenEnum<T, U> openEnum, ByteBuffer out) {
+    if (openEnum.isEnumValue()) {
+      putVarint(out, code(openEnum.getEnumValue()) + 1);
+      return;
+    }
+    byte[] payload = payloadEncoder.apply(openEnum.getUnknownValue());
+    out.put((byte) UNKNOWN_TAG);
+    putVarint(out, payload.length);
+    out.put(payload);
+  }
+
+  /**
+   * Write a value.
+   *
+   * @param openEnum the value to write
+   * @param out the output to write to
+   * @throws IOException if writing fails
+   */
+  public void write(OpenEnum<T, U> openEnum, DataOutput out) throws IOException {
+    if (openEnum.isEnumValue()) {
+      writeVarint(out, code(openEnum.getEnumValue()) + 1);
+      return;
+    }
+    byte[] payload = payloadEncoder.apply(openEnum.getUnknownValue());
+    out.writeByte(UNKNOWN_TAG);
+    writeVarint(out, payload.length);
+    out.write(payload);
+  }
+
+  /**
+   * Read a value.
+   *
+   * @param in the buffer to read from
+   * @return the canonical instance for the enum value, or an {@code OpenEnum} containing the
+   *     unknown value. An ordinal or ID that this enum has no constant for is read as an unknown
+   *     value.
+   * @throws IllegalArgumentException if the bytes weren't written by this codec
+   * @throws java.nio.BufferUnderflowException if {@code in} ends before the value does
+   */
+  public OpenEnum<T, U> read(ByteBuffer in) {
+    int tag = getVarint(in);
+    if (tag != UNKNOWN_TAG) {
+      return known(tag - 1);
+    }
+    int length = getVarint(in);
+    if (length > in.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] payload = new byte[length];
+    in.get(payload);
+    return OpenEnum.fromUnknown(payloadDecoder.apply(payload));
+  }
+
+  /**
+   * Read a value.
+   *
+   * @param in the input to read from
+   * @return the canonical instance for the enum value, or an {@code OpenEnum} containing the
+   *     unknown value. An ordinal or ID that this enum has no constant for is read as an unknown
+   *     value.
+   * @throws IllegalArgumentException if the bytes weren't written by this codec
+   * @throws java.io.EOFException if {@code in} ends before the value does
+   * @throws IOException if reading fails
+   */
+  public OpenEnum<T, U> read(DataInput in) throws IOException {
+    int tag = readVarint(in);
+    if (tag != UNKNOWN_TAG) {
+      return known(tag - 1);
+    }
+    int length = readVarint(in);
+    return OpenEnum.fromUnknown(payloadDecoder.apply(readPayload(in, length)));
+  }
+
+  // Reads the payload in chunks that grow as bytes arrive, so a corrupt length can't allocate more
+  // than twice the bytes the input actually has.
+  private static byte[] readPayload(DataInput in, int length) throws IOException {
+    byte[] payload = new byte[Math.min(length, PAYLOAD_CHUNK_SIZE)];
+    int read = 0;
+    while (true) {
+      in.readFully(payload, read, payload.length - read);
+      read = payload.length;
+      if (read == length) {
+        return payload;
+      }
+      payload = Arrays.copyOf(payload, (int) Math.min(length, 2L * read));
+    }
+  }
+
+  private int code(T constant) {
+    return ids == null ? constant.ordinal() : ids.code(constant);
+  }
+
+  private OpenEnum<T, U> known(int code) {
+    if (ids == null) {
+      if (code < knownValues.length) {
+        return knownValues[code];
+      }
+    } else {
+      // An ID this enum doesn't have is read as unrecognized, not passed to the IDs' listener.
+      OpenIntEnum<T> value = ids.lookup(code);
+      if (value != null) {
+        return knownValues[value.getEnumValue().ordinal()];
+      }
+    }
+    return OpenEnum.fromUnknown(unrecognized.apply(code));
+  }
+
+  private static void putVarint(ByteBuffer out, int value) {
+    while ((value & ~0x7f) != 0) {
+      out.put((byte) (value | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  private static void writeVarint(DataOutput out, int value) throws IOException {
+    while ((value & ~0x7f) != 0) {
+      out.writeByte(value | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int getVarint(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.get();
+      if (shift == 28 && (b & 0xf8) != 0) {
+        throw new IllegalArgumentException("Varint is larger than Integer.MAX_VALUE");
+      }
+      value |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  private static int readVarint(DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.readByte();
+      if (shift == 28 && (b & 0xf8) != 0) {
+        throw new IllegalArgumentException("Varint is larger than Integer.MAX_VALUE");
+      }
+      value |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  private static <T extends Enum<T>> int fingerprint(
+      Class<T> enumType, OpenIntEnumResolver<T> ids) {
+    T[] constants = enumType.getEnumConstants();
+    if (ids != null) {
+      Arrays.sort(constants, Comparator.comparingInt(ids::code));
+    }
+    // 32-bit FNV-1a over the names, each followed by a zero char so that names can't run together,
+    // and then by the ID if there is one.
+    int hash = 0x811c9dc5;
+    for (T constant : constants) {
+      String name = constant.name();
+      for (int i = 0; i <= name.length(); i++) {
+        hash = (hash ^ (i < name.length() ? name.charAt(i) : 0)) * 0x01000193;
+      }
+      if (ids != null) {
+        hash = (hash ^ ids.code(constant)) * 0x01000193;
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * A builder for {@link OpenEnumBinaryCodec}.
+   *
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static final class Builder<T extends Enum<T>, U> {
+    private final Class<T> enumType;
+    private Function<U, byte[]> payloadEncoder;
+    private Function<byte[], U> payloadDecoder;
+    private IntFunction<U> unrecognized;
+    private OpenIntEnumResolver<T> ids;
+
+    Builder(Class<T> enumType) {
+      this.enumType = enumType;
+    }
+
+    /**
+     * Set how unknown values are converted to and from bytes.
+     *
+     * <p>For example, for {@code String} unknown values, {@code payload(u ->
+     * u.getBytes(StandardCharsets.UTF_8), p -> new String(p, StandardCharsets.UTF_8))}.
+     *
+     * @param payloadEncoder function that converts an unknown value to bytes
+     * @param payloadDecoder function that converts bytes back to an unknown value
+     * @return this builder
+     */
+    public Builder<T, U> payload(
+        Function<U, byte[]> payloadEncoder, Function<byte[], U> payloadDecoder) {
+      if (payloadEncoder == null) {
+        throw new IllegalArgumentException("payloadEncoder cannot be null");
+      }
+      if (payloadDecoder == null) {
+        throw new IllegalArgumentException("payloadDecoder cannot be null");
+      }
+      this.payloadEncoder = payloadEncoder;
+      this.payloadDecoder = payloadDecoder;
+      return this;
+    }
+
+    /**
+     * Set the unknown value read for an ordinal or ID that the enum has no constant for.
+     *
+     * <p>This happens when the writer's enum has constants that the reader's doesn't.
+     *
+     * @param unrecognized function that converts an ordinal or ID to an unknown value
+     * @return this builder
+     */
+    public Builder<T, U> unrecognized(IntFunction<U> unrecognized) {
+      if (unrecognized == null) {
+        throw new IllegalArgumentException("unrecognized cannot be null");
+      }
+      this.unrecognized = unrecognized;
+      return this;
+    }
+
+    /**
+     * Write enum values as stable IDs, instead of ordinals.
+     *
+     * <p>Only the first ID of each constant is written, but any of its IDs is read.
+     *
+     * @param ids resolver of the IDs of the constants
+     * @return this builder
+     * @throws IllegalArgumentException if {@code ids} is for a different enum, or the first ID of a
+     *     constant is negative or {@code Integer.MAX_VALUE}
+     */
+    public Builder<T, U> ids(OpenIntEnumResolver<T> ids) {
+      if (ids == null) {
+        throw new IllegalArgumentException("ids cannot be null");
+      }
+      if (ids.getEnumType() != enumType) {
+        throw new IllegalArgumentException("ids must be for " + enumType.getName());
+      }
+      for (T constant : enumType.getEnumConstants()) {
+        int id = ids.code(constant);
+        if (id < 0 || id == Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("ID " + id + " of " + constant + " is out of range");
+        }
+      }
+      this.ids = ids;
+      return this;
+    }
+
+    /**
+     * Build the codec.
+     *
+     * @return a codec configured by this builder
+     * @throws IllegalStateException if the payload or the unknown value for unrecognized ordinals
+     *     and IDs hasn't been set
+     */
+    public OpenEnumBinaryCodec<T, U> build() {
+      if (payloadEncoder == null) {
+        throw new IllegalStateException("No payload for " + enumType.getName());
+      }
+      if (unrecognized == null) {
+        throw new IllegalStateException("No unrecognized value for " + enumType.getName());
+      }
+      return new OpenEnumBinaryCodec<>(this);
+    }
+  }
+}
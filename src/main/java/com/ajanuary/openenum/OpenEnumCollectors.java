@@ -0,0 +1,280 @@
+package com.ajanuary.openenum;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector}s that group stream elements by {@link OpenEnum} keys.
+ *
+ * <p>Unlike {@code Collectors.groupingBy}, which hashes every key into a {@code HashMap}, these
+ * accumulate into arrays indexed by ordinal for enum keys, and only hash unknown keys, into a map
+ * that is created when the first unknown key is seen. Counts are kept as primitive {@code long}s
+ * until the result is built. In parallel streams, partial results are combined ordinal by ordinal.
+ *
+ * <p>Results are returned as {@link OpenEnumMap}s, containing only the keys that occurred.
+ */
+public final class OpenEnumCollectors {
+  private OpenEnumCollectors() {}
+
+  /**
+   * Create a collector that counts the occurrences of each value in a stream of OpenEnums.
+   *
+   * @param enumType the class of the enum
+   * @return a collector counting the occurrences of each value
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U>
+      Collector<OpenEnum<T, U>, ?, OpenEnumMap<T, U, Long>> counting(Class<T> enumType) {
+    return counting(enumType, Function.identity());
+  }
+
+  /**
+   * Create a collector that counts the elements of a stream by an OpenEnum key.
+   *
+   * <p>This is equivalent to {@code Collectors.groupingBy(classifier, Collectors.counting())}.
+   *
+   * @param enumType the class of the enum
+   * @param classifier function that returns the key of an element
+   * @return a collector counting the elements with each key
+   * @param <E> type of the elements
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <E, T extends Enum<T>, U> Collector<E, ?, OpenEnumMap<T, U, Long>> counting(
+      Class<T> enumType, Function<? super E, ? extends OpenEnum<T, U>> classifier) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    if (classifier == null) {
+      throw new IllegalArgumentException("classifier cannot be null");
+    }
+    T[] constants = enumType.getEnumConstants();
+    return Collector.of(
+        () -> new Counts<T, U>(constants.length),
+        (counts, element) -> counts.add(key(classifier, element)),
+        Counts::combine,
+        counts -> counts.toMap(enumType, constants),
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Create a collector that groups the elements of a stream into lists by an OpenEnum key.
+   *
+   * @param enumType the class of the enum
+   * @param classifier function that returns the key of an element
+   * @return a collector grouping the elements by key
+   * @param <E> type of the elements
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <E, T extends Enum<T>, U> Collector<E, ?, OpenEnumMap<T, U, List<E>>> groupingBy(
+      Class<T> enumType, Function<? super E, ? extends OpenEnum<T, U>> classifier) {
+    return groupingBy(enumType, classifier, Collectors.toList());
+  }
+
+  /**
+   * Create a collector that groups the elements of a stream by an OpenEnum key, and reduces the
+   * elements with each key with a downstream collector.
+   *
+   * @param enumType the class of the enum
+   * @param classifier function that returns the key of an element
+   * @param downstream collector to reduce the elements with each key
+   * @return a collector grouping the elements by key
+   * @param <E> type of the elements
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   * @param <A> type of the downstream collector's accumulator
+   * @param <D> type of the downstream collector's result
+   */
+  public static <E, T extends Enum<T>, U, A, D> Collector<E, ?, OpenEnumMap<T, U, D>> groupingBy(
+      Class<T> enumType,
+      Function<? super E, ? extends OpenEnum<T, U>> classifier,
+      Collector<? super E, A, D> downstream) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    if (classifier == null) {
+      throw new IllegalArgumentException("classifier cannot be null");
+    }
+    if (downstream == null) {
+      throw new IllegalArgumentException("downstream cannot be null");
+    }
+    T[] constants = enumType.getEnumConstants();
+    Supplier<A> supplier = downstream.supplier();
+    BiConsumer<A, ? super E> accumulator = downstream.accumulator();
+    BinaryOperator<A> combiner = downstream.combiner();
+    Function<A, D> finisher = downstream.finisher();
+    return Collector.of(
+        () -> new Groups<T, U, A>(constants.length),
+        (groups, element) ->
+            accumulate(groups, key(classifier, element), element, supplier, accumulator),
+        (left, right) -> left.combine(right, combiner),
+        groups -> groups.toMap(enumType, constants, finisher));
+  }
+
+  /**
+   * Create a collector that partitions a stream of OpenEnums into enum values and unknown values.
+   *
+   * @return a collector mapping {@code true} to the enum values and {@code false} to the unknown
+   *     values
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U>
+      Collector<OpenEnum<T, U>, ?, Map<Boolean, List<OpenEnum<T, U>>>> partitioningByKnown() {
+    return Collectors.partitioningBy(OpenEnum::isEnumValue);
+  }
+
+  /**
+   * Create a collector that partitions the elements of a stream by whether their OpenEnum key is an
+   * enum value, and reduces each partition with a downstream collector.
+   *
+   * @param classifier function that returns the key of an element
+   * @param downstream collector to reduce each partition
+   * @return a collector mapping {@code true} to the elements with enum keys and {@code false} to
+   *     the elements with unknown keys
+   * @param <E> type of the elements
+   * @param <D> type of the downstream collector's result
+   */
+  public static <E, D> Collector<E, ?, Map<Boolean, D>> partitioningByKnown(
+      Function<? super E, ? extends OpenEnum<?, ?>> classifier,
+      Collector<? super E, ?, D> downstream) {
+    if (classifier == null) {
+      throw new IllegalArgumentException("classifier cannot be null");
+    }
+    return Collectors.partitioningBy(element -> key(classifier, element).isEnumValue(), downstream);
+  }
+
+  private static <E, K> K key(Function<? super E, ? extends K> classifier, E element) {
+    K key = classifier.apply(element);
+    if (key == null) {
+      throw new IllegalArgumentException("classifier cannot return null");
+    }
+    return key;
+  }
+
+  private static <E, T extends Enum<T>, U, A> void accumulate(
+      Groups<T, U, A> groups,
+      OpenEnum<T, U> key,
+      E element,
+      Supplier<A> supplier,
+      BiConsumer<A, ? super E> accumulator) {
+    A container;
+    if (key.isEnumValue()) {
+      int ordinal = key.getEnumValue().ordinal();
+      container = groups.known[ordinal];
+      if (container == null) {
+        container = supplier.get();
+        groups.known[ordinal] = container;
+      }
+    } else {
+      if (groups.unknown == null) {
+        groups.unknown = new HashMap<>();
+      }
+      container = groups.unknown.computeIfAbsent(key, k -> supplier.get());
+    }
+    accumulator.accept(container, element);
+  }
+
+  private static final class Counts<T extends Enum<T>, U> {
+    private final long[] known;
+    private Map<OpenEnum<T, U>, long[]> unknown;
+
+    Counts(int constantCount) {
+      this.known = new long[constantCount];
+    }
+
+    void add(OpenEnum<T, U> key) {
+      if (key.isEnumValue()) {
+        known[key.getEnumValue().ordinal()]++;
+        return;
+      }
+      if (unknown == null) {
+        unknown = new HashMap<>();
+      }
+      unknown.computeIfAbsent(key, k -> new long[1])[0]++;
+    }
+
+    Counts<T, U> combine(Counts<T, U> other) {
+      for (int i = 0; i < known.length; i++) {
+        known[i] += other.known[i];
+      }
+      if (other.unknown != null) {
+        if (unknown == null) {
+          unknown = other.unknown;
+        } else {
+          other.unknown.forEach((key, count) -> unknown.merge(key, count, Counts::sum));
+        }
+      }
+      return this;
+    }
+
+    OpenEnumMap<T, U, Long> toMap(Class<T> enumType, T[] constants) {
+      OpenEnumMap<T, U, Long> map = OpenEnumMap.create(enumType);
+      for (int i = 0; i < known.length; i++) {
+        if (known[i] != 0) {
+          map.put(constants[i], known[i]);
+        }
+      }
+      if (unknown != null) {
+        unknown.forEach((key, count) -> map.put(key, count[0]));
+      }
+      return map;
+    }
+
+    private static long[] sum(long[] left, long[] right) {
+      left[0] += right[0];
+      return left;
+    }
+  }
+
+  private static final class Groups<T extends Enum<T>, U, A> {
+    private final A[] known;
+    private Map<OpenEnum<T, U>, A> unknown;
+
+    Groups(int constantCount) {
+      @SuppressWarnings("unchecked")
+      A[] known = (A[]) new Object[constantCount];
+      this.known = known;
+    }
+
+    Groups<T, U, A> combine(Groups<T, U, A> other, BinaryOperator<A> combiner) {
+      for (int i = 0; i < known.length; i++) {
+        if (known[i] == null) {
+          known[i] = other.known[i];
+        } else if (other.known[i] != null) {
+          known[i] = combiner.apply(known[i], other.known[i]);
+        }
+      }
+      if (other.unknown != null) {
+        if (unknown == null) {
+          unknown = other.unknown;
+        } else {
+          other.unknown.forEach((key, container) -> unknown.merge(key, container, combiner));
+        }
+      }
+      return this;
+    }
+
+    <D> OpenEnumMap<T, U, D> toMap(Class<T> enumType, T[] constants, Function<A, D> finisher) {
+      OpenEnumMap<T, U, D> map = OpenEnumMap.create(enumType);
+      for (int i = 0; i < known.length; i++) {
+        if (known[i] != null) {
+          map.put(constants[i], finisher.apply(known[i]));
+        }
+      }
+      if (unknown != null) {
+        unknown.forEach((key, container) -> map.put(key, finisher.apply(container)));
+      }
+      return map;
+    }
+  }
+}
@@ -0,0 +1,292 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable column of {@link OpenEnum} values, stored as an array of small integer codes.
+ *
+ * <p>Each row is stored as a code: the ordinal of its enum value, or, for an unknown value, the
+ * number of constants plus the index of the unknown value in a dictionary of the distinct unknown
+ * values in the column. The codes are stored in a {@code byte[]} if they all fit in one unsigned
+ * byte, a {@code short[]} if they all fit in two, and an {@code int[]} otherwise. So a column of a
+ * million rows of a small enum takes about a megabyte, rather than a reference per row.
+ *
+ * <p>Bulk operations such as {@link #countByConstant} and {@link #filter} loop over the codes
+ * directly, without creating an {@code OpenEnum} per row.
+ *
+ * <p>Use {@link #builder} to create a column.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ */
+public final class OpenEnumColumn<T extends Enum<T>, U> {
+  private final OpenEnum<T, U>[] values;
+  private final int constantCount;
+  private final int size;
+  // Exactly one of these holds the codes, depending on the largest code.
+  private final byte[] byteCodes;
+  private final short[] shortCodes;
+  private final int[] intCodes;
+
+  private OpenEnumColumn(Builder<T, U> builder) {
+    this.constantCount = builder.constantCount;
+    this.size = builder.size;
+    OpenEnum<T, U>[] knownValues = OpenEnum.knownValues(builder.enumType);
+    this.values = Arrays.copyOf(knownValues, knownValues.length + builder.unknownValues.size());
+    for (int i = 0; i < builder.unknownValues.size(); i++) {
+      values[knownValues.length + i] = builder.unknownValues.get(i);
+    }
+    this.byteCodes = builder.byteCodes == null ? null : Arrays.copyOf(builder.byteCodes, size);
+    this.shortCodes = builder.shortCodes == null ? null : Arrays.copyOf(builder.shortCodes, size);
+    this.intCodes = builder.intCodes == null ? null : Arrays.copyOf(builder.intCodes, size);
+  }
+
+  /**
+   * Create a builder for a column.
+   *
+   * @param enumType the class of the enum
+   * @return an empty builder
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> Builder<T, U> builder(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new Builder<>(enumType);
+  }
+
+  /**
+   * Get the number of rows in this column.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the value of a row.
+   *
+   * @param row the index of the row
+   * @return the canonical instance for the row's enum value, or the column's shared instance for
+   *     the row's unknown value
+   * @throws IndexOutOfBoundsException if {@code row} is out of bounds
+   */
+  public OpenEnum<T, U> get(int row) {
+    return values[code(Objects.checkIndex(row, size))];
+  }
+
+  /**
+   * Count the rows holding each constant of the enum.
+   *
+   * @return the number of rows holding each constant, indexed by ordinal
+   */
+  public int[] countByConstant() {
+    return Arrays.copyOf(countByCode(), constantCount);
+  }
+
+  /**
+   * Count the rows holding unknown values.
+   *
+   * @return the number of rows holding unknown values
+   */
+  public int countUnknown() {
+    int[] counts = countByCode();
+    int unknownCount = 0;
+    for (int code = constantCount; code < counts.length; code++) {
+      unknownCount += counts[code];
+    }
+    return unknownCount;
+  }
+
+  /**
+   * Find the rows holding one of the given constants.
+   *
+   * @param constants the constants to look for
+   * @return a bitmap with a bit set for each row whose enum value is in {@code constants}. Rows
+   *     holding unknown values are never set.
+   */
+  public BitSet filter(EnumSet<T> constants) {
+    // A lookup table by code lets the loop run without branching on the row's value.
+    long[] matches = new long[values.length];
+    for (T constant : constants) {
+      matches[constant.ordinal()] = 1;
+    }
+    long[] words = new long[(size + 63) >>> 6];
+    if (byteCodes != null) {
+      for (int i = 0; i < size; i++) {
+        words[i >>> 6] |= matches[byteCodes[i] & 0xff] << i;
+      }
+    } else if (shortCodes != null) {
+      for (int i = 0; i < size; i++) {
+        words[i >>> 6] |= matches[shortCodes[i] & 0xffff] << i;
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        words[i >>> 6] |= matches[intCodes[i]] << i;
+      }
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Get the number of distinct unknown values in this column.
+   *
+   * @return the number of distinct unknown values
+   */
+  public int unknownValueCount() {
+    return values.length - constantCount;
+  }
+
+  private int[] countByCode() {
+    int[] counts = new int[values.length];
+    if (byteCodes != null) {
+      for (byte code : byteCodes) {
+        counts[code & 0xff]++;
+      }
+    } else if (shortCodes != null) {
+      for (short code : shortCodes) {
+        counts[code & 0xffff]++;
+      }
+    } else {
+      for (int code : intCodes) {
+        counts[code]++;
+      }
+    }
+    return counts;
+  }
+
+  private int code(int row) {
+    if (byteCodes != null) {
+      return byteCodes[row] & 0xff;
+    }
+    if (shortCodes != null) {
+      return shortCodes[row] & 0xffff;
+    }
+    return intCodes[row];
+  }
+
+  /**
+   * A builder for {@link OpenEnumColumn}.
+   *
+   * <p>Rows are appended in order. The width of the codes is widened as needed, so it doesn't need
+   * to be known up front.
+   *
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static final class Builder<T extends Enum<T>, U> {
+    private static final int BYTE_LIMIT = 1 << 8;
+    private static final int SHORT_LIMIT = 1 << 16;
+
+    private final Class<T> enumType;
+    private final int constantCount;
+    private final List<OpenEnum<T, U>> unknownValues = new ArrayList<>();
+    private final Map<U, Integer> unknownCodes = new HashMap<>();
+    private byte[] byteCodes;
+    private short[] shortCodes;
+    private int[] intCodes;
+    private int size;
+
+    Builder(Class<T> enumType) {
+      this.enumType = enumType;
+      this.constantCount = enumType.getEnumConstants().length;
+      if (constantCount <= BYTE_LIMIT) {
+        byteCodes = new byte[16];
+      } else if (constantCount <= SHORT_LIMIT) {
+        shortCodes = new short[16];
+      } else {
+        intCodes = new int[16];
+      }
+    }
+
+    /**
+     * Append a row holding an enum value.
+     *
+     * @param enumValue the enum value of the row
+     * @return this builder
+     */
+    public Builder<T, U> add(T enumValue) {
+      if (enumValue == null) {
+        throw new IllegalArgumentException("enumValue cannot be null");
+      }
+      append(enumValue.ordinal());
+      return this;
+    }
+
+    /**
+     * Append a row.
+     *
+     * <p>The first occurrence of each distinct unknown value is kept, and returned by {@link
+     * OpenEnumColumn#get} for every row holding an equal unknown value.
+     *
+     * @param openEnum the value of the row
+     * @return this builder
+     */
+    public Builder<T, U> add(OpenEnum<T, U> openEnum) {
+      if (openEnum.isEnumValue()) {
+        return add(openEnum.getEnumValue());
+      }
+      Integer code = unknownCodes.get(openEnum.getUnknownValue());
+      if (code == null) {
+        code = constantCount + unknownValues.size();
+        unknownCodes.put(openEnum.getUnknownValue(), code);
+        unknownValues.add(openEnum);
+      }
+      append(code);
+      return this;
+    }
+
+    /**
+     * Build the column.
+     *
+     * @return a column containing the rows added to this builder
+     */
+    public OpenEnumColumn<T, U> build() {
+      return new OpenEnumColumn<>(this);
+    }
+
+    private void append(int code) {
+      if (byteCodes != null) {
+        if (code < BYTE_LIMIT) {
+          if (size == byteCodes.length) {
+            byteCodes = Arrays.copyOf(byteCodes, size * 2);
+          }
+          byteCodes[size++] = (byte) code;
+          return;
+        }
+        shortCodes = new short[byteCodes.length];
+        for (int i = 0; i < size; i++) {
+          shortCodes[i] = (short) (byteCodes[i] & 0xff);
+        }
+        byteCodes = null;
+      }
+      if (shortCodes != null) {
+        if (code < SHORT_LIMIT) {
+          if (size == shortCodes.length) {
+            shortCodes = Arrays.copyOf(shortCodes, size * 2);
+          }
+          shortCodes[size++] = (short) code;
+          return;
+        }
+        intCodes = new int[shortCodes.length];
+        for (int i = 0; i < size; i++) {
+          intCodes[i] = shortCodes[i] & 0xffff;
+        }
+        shortCodes = null;
+      }
+      if (size == intCodes.length) {
+        intCodes = Arrays.copyOf(intCodes, size * 2);
+      }
+      intCodes[size++] = code;
+    }
+  }
+}
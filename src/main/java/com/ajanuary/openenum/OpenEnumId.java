@@ -0,0 +1,38 @@
+package com.ajanuary.openenum;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the stable numeric IDs of an enum constant.
+ *
+ * <p>Unlike ordinals, IDs don't change when constants are added, removed or reordered, so they can
+ * be shared between services running different versions of an enum. {@link
+ * OpenIntEnumResolver#ofAnnotated} resolves each of the given IDs to the annotated constant. The
+ * first ID is the one returned by {@link OpenIntEnumResolver#code}; any others are aliases that are
+ * only used when resolving, for example the IDs of constants that have been merged.
+ *
+ * <pre>{@code
+ * enum AccountType {
+ *   @OpenEnumId(1)
+ *   Standard,
+ *   @OpenEnumId({3, 2})
+ *   Enterprise,
+ *   ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface OpenEnumId {
+  /**
+   * The IDs of the constant. The first is the canonical ID, and the rest are aliases.
+   *
+   * @return the IDs of the constant
+   */
+  int[] value();
+}
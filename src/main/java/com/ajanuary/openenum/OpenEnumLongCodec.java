@@ -0,0 +1,247 @@
+package com.ajanuary.openenum;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Packs {@link OpenEnum} values into {@code long}s, so they can be stored in primitive arrays.
+ *
+ * <p>An enum value is packed as its ordinal, which is never negative. An unknown value is packed as
+ * {@link #UNKNOWN_TAG}, the sign bit, combined with a 63-bit payload. The payload is either an
+ * index into a dictionary of unknown values kept by the codec, or the unknown value itself,
+ * converted by a pair of functions given when the codec is created.
+ *
+ * <p>The static methods {@link #isKnown}, {@link #isUnknown}, {@link #ordinal} and {@link #payload}
+ * work directly on packed values, so filters can run over a {@code long[]} without unpacking each
+ * value.
+ *
+ * <p>Instances are safe to share between threads.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ */
+public final class OpenEnumLongCodec<T extends Enum<T>, U> {
+  /** The bit that is set in every packed unknown value. */
+  public static final long UNKNOWN_TAG = Long.MIN_VALUE;
+
+  private static final Object NULL = new Object();
+
+  private final OpenEnum<T, U>[] knownValues;
+  // Dictionary payloads: indexes by unknown value, and unknown values by index.
+  private final Map<Object, Integer> indexes;
+  private volatile Dictionary<T, U> dictionary;
+  // Raw payloads: converts unknown values to and from payloads.
+  private final ToLongFunction<U> payloadEncoder;
+  private final LongFunction<U> payloadDecoder;
+
+  private OpenEnumLongCodec(
+      Class<T> enumType, ToLongFunction<U> payloadEncoder, LongFunction<U> payloadDecoder) {
+    this.knownValues = OpenEnum.knownValues(enumType);
+    this.payloadEncoder = payloadEncoder;
+    this.payloadDecoder = payloadDecoder;
+    if (payloadEncoder == null) {
+      this.indexes = new ConcurrentHashMap<>();
+      @SuppressWarnings("unchecked")
+      OpenEnum<T, U>[] unknownValues = (OpenEnum<T, U>[]) new OpenEnum<?, ?>[16];
+      this.dictionary = new Dictionary<>(unknownValues, 0);
+    } else {
+      this.indexes = null;
+    }
+  }
+
+  /**
+   * Create a codec that packs unknown values as indexes into a dictionary.
+   *
+   * <p>Each distinct unknown value is added to the dictionary the first time it is packed, and
+   * unpacking returns the same {@code OpenEnum} instance for every value packed from an equal
+   * unknown value. The dictionary is never cleared, so this is suited to unknown values with few
+   * distinct values.
+   *
+   * @param enumType the class of the enum
+   * @return a codec for {@code enumType}
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> OpenEnumLongCodec<T, U> withDictionary(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new OpenEnumLongCodec<>(enumType, null, null);
+  }
+
+  /**
+   * Create a codec that packs unknown values directly into the payload.
+   *
+   * <p>For example, for {@code Integer} unknown values, {@code withRawUnknowns(Status.class, u -> u
+   * & 0xffffffffL, p -> (int) p)}.
+   *
+   * @param enumType the class of the enum
+   * @param payloadEncoder function that converts an unknown value to a payload. Payloads must be
+   *     between 0 and {@code Long.MAX_VALUE}.
+   * @param payloadDecoder function that converts a payload back to an unknown value
+   * @return a codec for {@code enumType}
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> OpenEnumLongCodec<T, U> withRawUnknowns(
+      Class<T> enumType, ToLongFunction<U> payloadEncoder, LongFunction<U> payloadDecoder) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    if (payloadEncoder == null) {
+      throw new IllegalArgumentException("payloadEncoder cannot be null");
+    }
+    if (payloadDecoder == null) {
+      throw new IllegalArgumentException("payloadDecoder cannot be null");
+    }
+    return new OpenEnumLongCodec<>(enumType, payloadEncoder, payloadDecoder);
+  }
+
+  /**
+   * Returns {@code true} if a packed value holds an enum value.
+   *
+   * @param packed the packed value
+   * @return {@code true} if {@code packed} holds an enum value
+   */
+  public static boolean isKnown(long packed) {
+    return packed >= 0;
+  }
+
+  /**
+   * Returns {@code true} if a packed value holds an unknown value.
+   *
+   * @param packed the packed value
+   * @return {@code true} if {@code packed} holds an unknown value
+   */
+  public static boolean isUnknown(long packed) {
+    return packed < 0;
+  }
+
+  /**
+   * Get the ordinal of the enum value in a packed value.
+   *
+   * @param packed the packed value
+   * @return the ordinal of the enum value {@code packed} holds, or -1 if it holds an unknown value
+   */
+  public static int ordinal(long packed) {
+    return packed < 0 ? -1 : (int) packed;
+  }
+
+  /**
+   * Get the payload of the unknown value in a packed value.
+   *
+   * @param packed the packed value
+   * @return the payload of the unknown value {@code packed} holds, or -1 if it holds an enum value
+   */
+  public static long payload(long packed) {
+    return packed < 0 ? packed & ~UNKNOWN_TAG : -1;
+  }
+
+  /**
+   * Pack an enum value.
+   *
+   * @param enumValue the enum value to pack
+   * @return the packed value
+   */
+  public long encode(T enumValue) {
+    return enumValue.ordinal();
+  }
+
+  /**
+   * Pack an OpenEnum.
+   *
+   * @param openEnum the value to pack
+   * @return the packed value
+   * @throws IllegalArgumentException if the codec packs unknown values directly, and the payload
+   *     for the unknown value is negative
+   */
+  public long encode(OpenEnum<T, U> openEnum) {
+    if (openEnum.isEnumValue()) {
+      return openEnum.getEnumValue().ordinal();
+    }
+    U unknownValue = openEnum.getUnknownValue();
+    if (payloadEncoder == null) {
+      return UNKNOWN_TAG | indexOf(openEnum, unknownValue);
+    }
+    long payload = payloadEncoder.applyAsLong(unknownValue);
+    if (payload < 0) {
+      throw new IllegalArgumentException("Payload for " + unknownValue + " is negative");
+    }
+    return UNKNOWN_TAG | payload;
+  }
+
+  /**
+   * Unpack a value.
+   *
+   * @param packed the packed value
+   * @return the canonical instance for the enum value if {@code packed} holds one, otherwise an
+   *     {@code OpenEnum} containing the unknown value
+   * @throws IllegalArgumentException if {@code packed} wasn't packed by a codec for this enum
+   */
+  public OpenEnum<T, U> decode(long packed) {
+    if (packed >= 0) {
+      if (packed >= knownValues.length) {
+        throw new IllegalArgumentException("No constant with ordinal " + packed);
+      }
+      return knownValues[(int) packed];
+    }
+    long payload = packed & ~UNKNOWN_TAG;
+    if (payloadDecoder != null) {
+      return OpenEnum.fromUnknown(payloadDecoder.apply(payload));
+    }
+    Dictionary<T, U> dictionary = this.dictionary;
+    if (payload >= dictionary.size) {
+      throw new IllegalArgumentException("No unknown value with index " + payload);
+    }
+    return dictionary.unknownValues[(int) payload];
+  }
+
+  /**
+   * Get the number of unknown values in the dictionary.
+   *
+   * @return the number of unknown values in the dictionary, or 0 if the codec packs unknown values
+   *     directly
+   */
+  public int dictionarySize() {
+    return indexes == null ? 0 : dictionary.size;
+  }
+
+  private long indexOf(OpenEnum<T, U> openEnum, U unknownValue) {
+    Object key = unknownValue == null ? NULL : unknownValue;
+    Integer index = indexes.get(key);
+    if (index != null) {
+      return index;
+    }
+    synchronized (indexes) {
+      index = indexes.get(key);
+      if (index != null) {
+        return index;
+      }
+      int size = dictionary.size;
+      OpenEnum<T, U>[] unknownValues = dictionary.unknownValues;
+      if (size == unknownValues.length) {
+        unknownValues = Arrays.copyOf(unknownValues, size * 2);
+      }
+      // Readers of the current dictionary never look past its size, so the new value can be
+      // written to a shared array. Publish it before its index, so anyone who sees the index can
+      // decode it.
+      unknownValues[size] = openEnum;
+      dictionary = new Dictionary<>(unknownValues, size + 1);
+      indexes.put(key, size);
+      return size;
+    }
+  }
+
+  private static final class Dictionary<T extends Enum<T>, U> {
+    private final OpenEnum<T, U>[] unknownValues;
+    private final int size;
+
+    Dictionary(OpenEnum<T, U>[] unknownValues, int size) {
+      this.unknownValues = unknownValues;
+      this.size = size;
+    }
+  }
+}
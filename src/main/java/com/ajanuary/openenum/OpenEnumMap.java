@@ -0,0 +1,385 @@
+package com.ajanuary.openenum;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map with {@link OpenEnum} keys.
+ *
+ * <p>Like {@link java.util.EnumMap}, values for enum keys are stored in an array indexed by
+ * ordinal, so looking up or updating an enum key doesn't hash. Values for unknown keys are kept in
+ * a separate hash map, which is only created once an unknown key is added.
+ *
+ * <p>{@link #get(Enum)}, {@link #put(Enum, Object)}, {@link #containsKey(Enum)} and {@link
+ * #remove(Enum)} take the enum value directly, without wrapping it in an {@code OpenEnum}.
+ *
+ * <p>Iteration returns enum keys in ordinal order, followed by unknown keys in no particular order.
+ * Null values are permitted. Like most collections, this map isn't thread safe.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ * @param <V> type of the mapped values
+ */
+public final class OpenEnumMap<T extends Enum<T>, U, V> extends AbstractMap<OpenEnum<T, U>, V> {
+  private static final Object NULL = new Object();
+
+  private final Class<T> enumType;
+  private final OpenEnum<T, U>[] knownKeys;
+  private final Object[] knownValues;
+  private int knownSize;
+  private Map<U, UnknownEntry<T, U, V>> unknownEntries;
+  private int modCount;
+  private Set<Map.Entry<OpenEnum<T, U>, V>> entrySet;
+
+  private OpenEnumMap(Class<T> enumType) {
+    this.enumType = enumType;
+    this.knownKeys = OpenEnum.knownValues(enumType);
+    this.knownValues = new Object[knownKeys.length];
+  }
+
+  /**
+   * Create an empty map.
+   *
+   * @param enumType the class of the enum
+   * @return an empty map
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   * @param <V> type of the mapped values
+   */
+  public static <T extends Enum<T>, U, V> OpenEnumMap<T, U, V> create(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new OpenEnumMap<>(enumType);
+  }
+
+  /**
+   * Returns the value the given enum value is mapped to, or null if it isn't mapped.
+   *
+   * @param enumValue the enum value to look up
+   * @return the value {@code enumValue} is mapped to, or null if it isn't mapped
+   */
+  public V get(T enumValue) {
+    if (enumValue == null) {
+      return null;
+    }
+    return unmaskNull(knownValues[enumValue.ordinal()]);
+  }
+
+  @Override
+  public V get(Object key) {
+    if (!(key instanceof OpenEnum<?, ?> openEnum)) {
+      return null;
+    }
+    if (openEnum.isUnknownValue()) {
+      if (unknownEntries == null) {
+        return null;
+      }
+      UnknownEntry<T, U, V> entry = unknownEntries.get(openEnum.getUnknownValue());
+      return entry == null ? null : entry.value;
+    }
+    Enum<?> enumValue = openEnum.getEnumValue();
+    return enumValue.getDeclaringClass() == enumType ? get(enumType.cast(enumValue)) : null;
+  }
+
+  /**
+   * Returns {@code true} if the given enum value is mapped.
+   *
+   * @param enumValue the enum value to look up
+   * @return {@code true} if {@code enumValue} is mapped
+   */
+  public boolean containsKey(T enumValue) {
+    return enumValue != null && knownValues[enumValue.ordinal()] != null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (!(key instanceof OpenEnum<?, ?> openEnum)) {
+      return false;
+    }
+    if (openEnum.isUnknownValue()) {
+      return unknownEntries != null && unknownEntries.containsKey(openEnum.getUnknownValue());
+    }
+    Enum<?> enumValue = openEnum.getEnumValue();
+    return enumValue.getDeclaringClass() == enumType && containsKey(enumType.cast(enumValue));
+  }
+
+  /**
+   * Maps the given enum value to a value.
+   *
+   * @param enumValue the enum value to map
+   * @param value the value to map it to. May be null.
+   * @return the value {@code enumValue} was previously mapped to, or null if it wasn't mapped
+   */
+  public V put(T enumValue, V value) {
+    int ordinal = checkEnumValue(enumValue).ordinal();
+    Object previous = knownValues[ordinal];
+    knownValues[ordinal] = maskNull(value);
+    if (previous == null) {
+      knownSize++;
+      modCount++;
+    }
+    return unmaskNull(previous);
+  }
+
+  @Override
+  public V put(OpenEnum<T, U> key, V value) {
+    if (key.isEnumValue()) {
+      return put(key.getEnumValue(), value);
+    }
+    if (unknownEntries == null) {
+      unknownEntries = new HashMap<>();
+    }
+    UnknownEntry<T, U, V> entry = unknownEntries.get(key.getUnknownValue());
+    if (entry != null) {
+      return entry.setValue(value);
+    }
+    unknownEntries.put(key.getUnknownValue(), new UnknownEntry<>(key, value));
+    modCount++;
+    return null;
+  }
+
+  /**
+   * Removes the mapping for the given enum value, if there is one.
+   *
+   * @param enumValue the enum value to remove
+   * @return the value {@code enumValue} was mapped to, or null if it wasn't mapped
+   */
+  public V remove(T enumValue) {
+    if (enumValue == null) {
+      return null;
+    }
+    int ordinal = enumValue.ordinal();
+    Object previous = knownValues[ordinal];
+    knownValues[ordinal] = null;
+    if (previous != null) {
+      knownSize--;
+      modCount++;
+    }
+    return unmaskNull(previous);
+  }
+
+  @Override
+  public V remove(Object key) {
+    if (!(key instanceof OpenEnum<?, ?> openEnum)) {
+      return null;
+    }
+    if (openEnum.isUnknownValue()) {
+      if (unknownEntries == null) {
+        return null;
+      }
+      UnknownEntry<T, U, V> entry = unknownEntries.remove(openEnum.getUnknownValue());
+      if (entry == null) {
+        return null;
+      }
+      modCount++;
+      return entry.value;
+    }
+    Enum<?> enumValue = openEnum.getEnumValue();
+    return enumValue.getDeclaringClass() == enumType ? remove(enumType.cast(enumValue)) : null;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(knownValues, null);
+    knownSize = 0;
+    if (unknownEntries != null) {
+      unknownEntries.clear();
+    }
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return knownSize + (unknownEntries == null ? 0 : unknownEntries.size());
+  }
+
+  @Override
+  public Set<Map.Entry<OpenEnum<T, U>, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private T checkEnumValue(T enumValue) {
+    if (enumValue == null) {
+      throw new IllegalArgumentException("enumValue cannot be null");
+    }
+    if (enumValue.getDeclaringClass() != enumType) {
+      throw new ClassCastException(enumValue.getDeclaringClass() + " != " + enumType);
+    }
+    return enumValue;
+  }
+
+  private static Object maskNull(Object value) {
+    return value == null ? NULL : value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V unmaskNull(Object value) {
+    return value == NULL ? null : (V) value;
+  }
+
+  private abstract static class AbstractEntry<T extends Enum<T>, U, V>
+      implements Map.Entry<OpenEnum<T, U>, V> {
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry<?, ?> entry)) {
+        return false;
+      }
+      return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private static final class UnknownEntry<T extends Enum<T>, U, V> extends AbstractEntry<T, U, V> {
+    private final OpenEnum<T, U> key;
+    private V value;
+
+    UnknownEntry(OpenEnum<T, U> key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public OpenEnum<T, U> getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public V setValue(V value) {
+      V previous = this.value;
+      this.value = value;
+      return previous;
+    }
+  }
+
+  private final class KnownEntry extends AbstractEntry<T, U, V> {
+    private final int ordinal;
+
+    KnownEntry(int ordinal) {
+      this.ordinal = ordinal;
+    }
+
+    @Override
+    public OpenEnum<T, U> getKey() {
+      return knownKeys[ordinal];
+    }
+
+    @Override
+    public V getValue() {
+      return unmaskNull(knownValues[ordinal]);
+    }
+
+    @Override
+    public V setValue(V value) {
+      if (knownValues[ordinal] == null) {
+        throw new IllegalStateException("Entry was removed");
+      }
+      Object previous = knownValues[ordinal];
+      knownValues[ordinal] = maskNull(value);
+      return unmaskNull(previous);
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<OpenEnum<T, U>, V>> {
+    @Override
+    public Iterator<Map.Entry<OpenEnum<T, U>, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return OpenEnumMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      OpenEnumMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<OpenEnum<T, U>, V>> {
+    private int nextOrdinal;
+    private int lastOrdinal = -1;
+    private Iterator<UnknownEntry<T, U, V>> unknownIterator;
+    private boolean lastWasUnknown;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      while (nextOrdinal < knownValues.length && knownValues[nextOrdinal] == null) {
+        nextOrdinal++;
+      }
+      if (nextOrdinal < knownValues.length) {
+        return true;
+      }
+      if (unknownIterator == null) {
+        if (unknownEntries == null) {
+          return false;
+        }
+        unknownIterator = unknownEntries.values().iterator();
+      }
+      return unknownIterator.hasNext();
+    }
+
+    @Override
+    public Map.Entry<OpenEnum<T, U>, V> next() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (nextOrdinal < knownValues.length) {
+        lastOrdinal = nextOrdinal++;
+        lastWasUnknown = false;
+        return new KnownEntry(lastOrdinal);
+      }
+      lastOrdinal = -1;
+      lastWasUnknown = true;
+      return unknownIterator.next();
+    }
+
+    @Override
+    public void remove() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (lastWasUnknown) {
+        unknownIterator.remove();
+        lastWasUnknown = false;
+      } else if (lastOrdinal >= 0) {
+        knownValues[lastOrdinal] = null;
+        knownSize--;
+        lastOrdinal = -1;
+      } else {
+        throw new IllegalStateException();
+      }
+      expectedModCount = ++modCount;
+    }
+  }
+}
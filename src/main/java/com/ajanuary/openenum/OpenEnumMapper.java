@@ -0,0 +1,222 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A reusable mapping from {@link OpenEnum} values, backed by a table indexed by ordinal.
+ *
+ * <p>Where {@code openEnum.map(enumMapper).orElse(unknownMapper)} calls the enum function every
+ * time, a mapper evaluates the enum function once per constant when it's created, so mapping an
+ * enum value is an array lookup. Constants can also be mapped to functions that are evaluated on
+ * each call, for results that can't be computed ahead of time.
+ *
+ * <p>Instances are immutable and safe to share between threads, as long as the functions they are
+ * built from are.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ * @param <V> type of the result
+ */
+public final class OpenEnumMapper<T extends Enum<T>, U, V> implements Function<OpenEnum<T, U>, V> {
+  private final Object[] results;
+  private final Function<T, V>[] functions;
+  private final Function<U, V> unknownMapper;
+
+  private OpenEnumMapper(
+      Object[] results, Function<T, V>[] functions, Function<U, V> unknownMapper) {
+    this.results = results;
+    this.functions = functions;
+    this.unknownMapper = unknownMapper;
+  }
+
+  /**
+   * Create a mapper by applying a function to every constant of an enum.
+   *
+   * <p>{@code enumMapper} is applied to each constant once, when the mapper is created.
+   *
+   * @param enumType the class of the enum
+   * @param enumMapper function to apply to each constant
+   * @param unknownMapper function to apply to unknown values
+   * @return a mapper that returns the precomputed result for enum values, and applies {@code
+   *     unknownMapper} to unknown values
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   * @param <V> type of the result
+   */
+  public static <T extends Enum<T>, U, V> OpenEnumMapper<T, U, V> of(
+      Class<T> enumType, Function<T, V> enumMapper, Function<U, V> unknownMapper) {
+    Builder<T, U, V> builder = builder(enumType);
+    for (T constant : enumType.getEnumConstants()) {
+      builder.constant(constant, enumMapper.apply(constant));
+    }
+    return builder.unknown(unknownMapper).build();
+  }
+
+  /**
+   * Create a builder for a mapper that maps each constant individually.
+   *
+   * @param enumType the class of the enum
+   * @return a builder for a mapper for {@code enumType}
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   * @param <V> type of the result
+   */
+  public static <T extends Enum<T>, U, V> Builder<T, U, V> builder(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new Builder<>(enumType);
+  }
+
+  /**
+   * Map an OpenEnum.
+   *
+   * @param openEnum the value to map
+   * @return the result for the enum value if one is present, otherwise the result of applying the
+   *     unknown function to the unknown value
+   */
+  @Override
+  public V apply(OpenEnum<T, U> openEnum) {
+    if (openEnum.isUnknownValue()) {
+      return unknownMapper.apply(openEnum.getUnknownValue());
+    }
+    return applyEnum(openEnum.getEnumValue());
+  }
+
+  /**
+   * Map an enum value, without wrapping it in an OpenEnum.
+   *
+   * @param enumValue the enum value to map
+   * @return the result for the enum value
+   */
+  public V applyEnum(T enumValue) {
+    int ordinal = enumValue.ordinal();
+    if (functions != null) {
+      Function<T, V> function = functions[ordinal];
+      if (function != null) {
+        return function.apply(enumValue);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    V result = (V) results[ordinal];
+    return result;
+  }
+
+  /**
+   * Map an unknown value, without wrapping it in an OpenEnum.
+   *
+   * @param unknownValue the unknown value to map
+   * @return the result of applying the unknown function to the unknown value
+   */
+  public V applyUnknown(U unknownValue) {
+    return unknownMapper.apply(unknownValue);
+  }
+
+  /**
+   * A builder for {@link OpenEnumMapper}.
+   *
+   * <p>Every constant of the enum must be mapped, and a function must be given for unknown values,
+   * before the mapper can be built.
+   *
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   * @param <V> type of the result
+   */
+  public static final class Builder<T extends Enum<T>, U, V> {
+    private final T[] constants;
+    private final Object[] results;
+    private final Function<T, V>[] functions;
+    private final boolean[] mapped;
+    private Function<U, V> unknownMapper;
+
+    Builder(Class<T> enumType) {
+      this.constants = enumType.getEnumConstants();
+      this.results = new Object[constants.length];
+      @SuppressWarnings("unchecked")
+      Function<T, V>[] functions = (Function<T, V>[]) new Function<?, ?>[constants.length];
+      this.functions = functions;
+      this.mapped = new boolean[constants.length];
+    }
+
+    /**
+     * Map a constant to a fixed result.
+     *
+     * @param constant the constant to map
+     * @param result the result for {@code constant}. May be null.
+     * @return this builder
+     */
+    public Builder<T, U, V> constant(T constant, V result) {
+      int ordinal = checkConstant(constant);
+      results[ordinal] = result;
+      functions[ordinal] = null;
+      return this;
+    }
+
+    /**
+     * Map a constant to a function that is applied to it on every call.
+     *
+     * @param constant the constant to map
+     * @param function the function to apply to {@code constant}
+     * @return this builder
+     */
+    public Builder<T, U, V> function(T constant, Function<T, V> function) {
+      if (function == null) {
+        throw new IllegalArgumentException("function cannot be null");
+      }
+      int ordinal = checkConstant(constant);
+      results[ordinal] = null;
+      functions[ordinal] = function;
+      return this;
+    }
+
+    /**
+     * Set the function to apply to unknown values.
+     *
+     * @param unknownMapper the function to apply to unknown values
+     * @return this builder
+     */
+    public Builder<T, U, V> unknown(Function<U, V> unknownMapper) {
+      if (unknownMapper == null) {
+        throw new IllegalArgumentException("unknownMapper cannot be null");
+      }
+      this.unknownMapper = unknownMapper;
+      return this;
+    }
+
+    /**
+     * Build the mapper.
+     *
+     * @return a mapper configured by this builder
+     * @throws IllegalStateException if a constant hasn't been mapped, or no function has been set
+     *     for unknown values
+     */
+    public OpenEnumMapper<T, U, V> build() {
+      List<T> unmapped = new ArrayList<>();
+      boolean hasFunctions = false;
+      for (T constant : constants) {
+        if (!mapped[constant.ordinal()]) {
+          unmapped.add(constant);
+        }
+        hasFunctions |= functions[constant.ordinal()] != null;
+      }
+      if (!unmapped.isEmpty()) {
+        throw new IllegalStateException("No mapping for " + unmapped);
+      }
+      if (unknownMapper == null) {
+        throw new IllegalStateException("No mapping for unknown values");
+      }
+      return new OpenEnumMapper<>(
+          results.clone(), hasFunctions ? functions.clone() : null, unknownMapper);
+    }
+
+    private int checkConstant(T constant) {
+      if (constant == null) {
+        throw new IllegalArgumentException("constant cannot be null");
+      }
+      mapped[constant.ordinal()] = true;
+      return constant.ordinal();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.ajanuary.openenum;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an enum to have a resolver generated for it at compile time.
+ *
+ * <p>With the {@code openenum-processor} annotation processor on the annotation processor path,
+ * annotating {@code AccountType} generates an {@code AccountTypeResolver} class in the same
+ * package, with a static {@code resolve(String)} method. The method switches on the name, returning
+ * {@link OpenEnum#fromEnum} for the names of the constants and {@link OpenEnum#fromUnknown} for
+ * anything else, so no lookup tables need to be built at runtime. Constants annotated with {@link
+ * WireName} are matched by their wire names instead.
+ *
+ * <p>For a nested enum, the generated class is named after each of the enclosing classes, joined
+ * with underscores, e.g. {@code Outer_AccountTypeResolver}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface OpenEnumResolvable {}
@@ -0,0 +1,776 @@
+package com.ajanuary.openenum;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves names to {@link OpenEnum} values.
+ *
+ * <p>Names are looked up in a hash table that is built once per enum class, so resolving a name is
+ * a single probe rather than a scan over {@code values()}. Names that don't match a constant
+ * resolve to {@link OpenEnum#fromUnknown}.
+ *
+ * <p>Names can also be resolved directly from UTF-8 encoded bytes, or from part of a char array.
+ * These are matched against precomputed keys in place, so a {@code String} is only created when the
+ * name is unknown.
+ *
+ * <p>By default a constant is matched by its name, or by the names given in its {@link WireName}
+ * annotation if it has one. The builder can replace the names of individual constants. {@link
+ * #wireName} goes the other way, returning the canonical name of a constant for serialization.
+ *
+ * <p>The builder can also make matching ignore ASCII case, or ignore hyphens, underscores and
+ * spaces. The names of the constants are folded when the resolver is built, and names being
+ * resolved are folded as they are hashed and compared, so no folded copy is allocated.
+ *
+ * <p>Use {@link #forEnum} for a resolver that matches the default names of the constants, or {@link
+ * #builder} to configure one.
+ *
+ * <p>The lookup tables are immutable, and instances are safe to share between threads.
+ *
+ * @param <T> type of the enum
+ */
+public final class OpenEnumResolver<T extends Enum<T>> {
+  private static final ClassValue<OpenEnumResolver<?>> RESOLVERS =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected OpenEnumResolver<?> computeValue(Class<?> type) {
+          return builder((Class) type).build();
+        }
+      };
+
+  private static final int IGNORE_ASCII_CASE = 1;
+  private static final int IGNORE_SEPARATORS = 2;
+
+  private final Class<T> enumType;
+  private final int folding;
+  private final String[] keys;
+  private final OpenEnum<T, String>[] values;
+  private final byte[][] utf8Keys;
+  private final OpenEnum<T, String>[] utf8Values;
+  private final int mask;
+  private final String[] wireNames;
+  private final UnknownValueCache<T, String> unknownCache;
+  private final UnknownValueListener listener;
+  // Statistics, or null if they aren't recorded.
+  private final ResolverStatsRecorder stats;
+
+  private OpenEnumResolver(Builder<T> builder) {
+    this.enumType = builder.enumType;
+    this.unknownCache = builder.unknownCache;
+    this.listener = builder.listener;
+    this.stats = builder.recordStats ? new ResolverStatsRecorder() : null;
+    this.folding = builder.folding;
+    T[] constants = enumType.getEnumConstants();
+    this.wireNames = new String[constants.length];
+    Map<String, T> entries = new LinkedHashMap<>();
+    for (T constant : constants) {
+      String[] names = builder.names.get(constant);
+      if (names == null) {
+        names = annotatedNames(constant);
+      }
+      wireNames[constant.ordinal()] = names[0];
+      for (String name : names) {
+        T previous = entries.putIfAbsent(fold(name), constant);
+        if (previous != null && previous != constant) {
+          throw new IllegalArgumentException(
+              "\"" + name + "\" matches names of both " + previous + " and " + constant);
+        }
+      }
+    }
+    int capacity = tableSizeFor(entries.size());
+    this.keys = new String[capacity];
+    @SuppressWarnings("unchecked")
+    OpenEnum<T, String>[] values = (OpenEnum<T, String>[]) new OpenEnum<?, ?>[capacity];
+    this.values = values;
+    this.utf8Keys = new byte[capacity][];
+    @SuppressWarnings("unchecked")
+    OpenEnum<T, String>[] utf8Values = (OpenEnum<T, String>[]) new OpenEnum<?, ?>[capacity];
+    this.utf8Values = utf8Values;
+    this.mask = capacity - 1;
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      OpenEnum<T, String> value = OpenEnum.fromEnum(entry.getValue());
+
+      int index = indexFor(entry.getKey().hashCode());
+      while (keys[index] != null) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = entry.getKey();
+      values[index] = value;
+
+      byte[] utf8Key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      index = indexFor(hash(utf8Key, 0, utf8Key.length));
+      while (utf8Keys[index] != null) {
+        index = (index + 1) & mask;
+      }
+      utf8Keys[index] = utf8Key;
+      utf8Values[index] = value;
+    }
+  }
+
+  /**
+   * Get the resolver that matches the names of the constants of an enum.
+   *
+   * <p>The resolver is built on first use and shared by every subsequent call for the same enum.
+   *
+   * @param enumType the class of the enum
+   * @return a resolver for {@code enumType}
+   * @param <T> type of the enum
+   */
+  public static <T extends Enum<T>> OpenEnumResolver<T> forEnum(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    @SuppressWarnings("unchecked")
+    OpenEnumResolver<T> resolver = (OpenEnumResolver<T>) RESOLVERS.get(enumType);
+    return resolver;
+  }
+
+  /**
+   * Create a builder for configuring a resolver.
+   *
+   * @param enumType the class of the enum
+   * @return a builder for a resolver for {@code enumType}
+   * @param <T> type of the enum
+   */
+  public static <T extends Enum<T>> Builder<T> builder(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new Builder<>(enumType);
+  }
+
+  /**
+   * Get the class of the enum this resolver resolves to.
+   *
+   * @return the class of the enum
+   */
+  public Class<T> getEnumType() {
+    return enumType;
+  }
+
+  /**
+   * Get the canonical name of a constant.
+   *
+   * <p>This is the first name given for the constant by the builder or its {@link WireName}
+   * annotation, or the name of the constant if it has neither. The names are computed when the
+   * resolver is built, so this is an array lookup.
+   *
+   * @param constant the constant to get the name of
+   * @return the canonical name of {@code constant}
+   */
+  public String wireName(T constant) {
+    return wireNames[constant.ordinal()];
+  }
+
+  /**
+   * Get statistics about the names this resolver has resolved.
+   *
+   * @return the statistics recorded so far
+   * @throws IllegalStateException if the resolver wasn't built with {@link Builder#recordStats}
+   */
+  public ResolverStats stats() {
+    return statsRecorder().snapshot();
+  }
+
+  /**
+   * Get the recorder of statistics about the names this resolver has resolved.
+   *
+   * <p>The recorder reads each statistic separately, which suits metrics systems that poll each one
+   * on its own.
+   *
+   * @return the live statistics of this resolver
+   * @throws IllegalStateException if the resolver wasn't built with {@link Builder#recordStats}
+   */
+  public ResolverStatsRecorder statsRecorder() {
+    if (stats == null) {
+      throw new IllegalStateException("Stats aren't recorded for " + enumType.getName());
+    }
+    return stats;
+  }
+
+  /**
+   * Resolve a name to an OpenEnum.
+   *
+   * @param name the name to resolve. May be null.
+   * @return an {@code OpenEnum} containing the constant with the given name if there is one,
+   *     otherwise an {@code OpenEnum} containing the name as an unknown value
+   */
+  public OpenEnum<T, String> resolve(String name) {
+    recordResolution();
+    OpenEnum<T, String> value = lookup(name);
+    return value != null ? value : unknown(name);
+  }
+
+  /**
+   * Look up the constant with a name, without treating a name that isn't found as unknown.
+   *
+   * <p>Unlike {@link #resolve(String)}, this isn't recorded in the resolver's stats, and a name
+   * that isn't found isn't passed to the listener or the unknown value cache. It suits callers that
+   * read values that aren't names as a different type of unknown value.
+   *
+   * @param name the name to look up. May be null.
+   * @return an {@code OpenEnum} containing the constant with the given name, or null if there isn't
+   *     one
+   */
+  public OpenEnum<T, String> lookup(String name) {
+    if (name == null) {
+      return null;
+    }
+    if (folding != 0) {
+      return lookupFolded(name);
+    }
+    int index = indexFor(name.hashCode());
+    String key;
+    while ((key = keys[index]) != null) {
+      if (key.equals(name)) {
+        return values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Resolve a name held in part of a char array to an OpenEnum.
+   *
+   * <p>This suits parsers that expose their character buffer, such as Jackson's {@code
+   * getTextCharacters}. A {@code String} is only created from the characters if the name is
+   * unknown.
+   *
+   * @param buf the array containing the name
+   * @param off the index of the first character of the name
+   * @param len the number of characters in the name
+   * @return an {@code OpenEnum} containing the constant with the given name if there is one,
+   *     otherwise an {@code OpenEnum} containing the name as an unknown value
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} are out of bounds of {@code
+   *     buf}
+   */
+  public OpenEnum<T, String> resolve(char[] buf, int off, int len) {
+    Objects.checkFromIndexSize(off, len, buf.length);
+    recordResolution();
+    OpenEnum<T, String> value = lookup(buf, off, len);
+    return value != null ? value : unknown(new String(buf, off, len));
+  }
+
+  /**
+   * Look up the constant with a name held in part of a char array, without treating a name that
+   * isn't found as unknown.
+   *
+   * @param buf the array containing the name
+   * @param off the index of the first character of the name
+   * @param len the number of characters in the name
+   * @return an {@code OpenEnum} containing the constant with the given name, or null if there isn't
+   *     one
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} are out of bounds of {@code
+   *     buf}
+   * @see #lookup(String)
+   */
+  public OpenEnum<T, String> lookup(char[] buf, int off, int len) {
+    Objects.checkFromIndexSize(off, len, buf.length);
+    int hash = 0;
+    for (int i = off; i < off + len; i++) {
+      char c = buf[i];
+      if (!isIgnored(c)) {
+        hash = 31 * hash + fold(c);
+      }
+    }
+    int index = indexFor(hash);
+    String key;
+    while ((key = keys[index]) != null) {
+      if (matches(key, buf, off, len)) {
+        return values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Resolve a UTF-8 encoded name to an OpenEnum.
+   *
+   * <p>A {@code String} is only decoded from the bytes if the name is unknown.
+   *
+   * @param buf the array containing the encoded name
+   * @param off the index of the first byte of the name
+   * @param len the number of bytes in the name
+   * @return an {@code OpenEnum} containing the constant with the given name if there is one,
+   *     otherwise an {@code OpenEnum} containing the decoded name as an unknown value
+   * @throws IndexOutOfBoundsException if {@code off} and {@code len} are out of bounds of {@code
+   *     buf}
+   */
+  public OpenEnum<T, String> resolveUtf8(byte[] buf, int off, int len) {
+    Objects.checkFromIndexSize(off, len, buf.length);
+    recordResolution();
+    if (folding != 0) {
+      return resolveUtf8Folded(buf, off, len);
+    }
+    int index = indexFor(hash(buf, off, len));
+    byte[] key;
+    while ((key = utf8Keys[index]) != null) {
+      if (Arrays.equals(key, 0, key.length, buf, off, off + len)) {
+        return utf8Values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return unknown(new String(buf, off, len, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Resolve a UTF-8 encoded name to an OpenEnum.
+   *
+   * <p>The name is read from the buffer's remaining bytes, between its position and its limit. The
+   * buffer's position is not changed. Both heap and direct buffers are supported, and a {@code
+   * String} is only decoded from the bytes if the name is unknown.
+   *
+   * @param buf the buffer containing the encoded name
+   * @return an {@code OpenEnum} containing the constant with the given name if there is one,
+   *     otherwise an {@code OpenEnum} containing the decoded name as an unknown value
+   */
+  public OpenEnum<T, String> resolveUtf8(ByteBuffer buf) {
+    if (buf.hasArray()) {
+      return resolveUtf8(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+    }
+    recordResolution();
+    int off = buf.position();
+    int len = buf.remaining();
+    int hash = 0;
+    for (int i = 0; i < len; i++) {
+      int b = buf.get(off + i);
+      if (!isIgnored(b)) {
+        hash = 31 * hash + fold(b);
+      }
+    }
+    int index = indexFor(hash);
+    byte[] key;
+    while ((key = utf8Keys[index]) != null) {
+      if (matches(key, buf, off, len)) {
+        return utf8Values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    byte[] bytes = new byte[len];
+    buf.get(off, bytes);
+    return unknown(new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Resolve an array of names in parallel, on the common fork/join pool.
+   *
+   * @param names the names to resolve. May contain nulls.
+   * @param out the array to write the resolved values to, at the same indexes as their names
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code names}
+   * @see #resolveAll(String[], OpenEnum[], Executor, int)
+   */
+  public void resolveAll(String[] names, OpenEnum<T, String>[] out) {
+    resolveAll(names, out, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() + 1);
+  }
+
+  /**
+   * Resolve an array of names in parallel.
+   *
+   * <p>The names are split into chunks of a few thousand, which threads claim one at a time, so
+   * each thread works on a cache-sized slice of the arrays. The lookup tables are shared by every
+   * thread. The calling thread resolves chunks too, and this returns once every name is resolved.
+   *
+   * @param names the names to resolve. May contain nulls.
+   * @param out the array to write the resolved values to, at the same indexes as their names
+   * @param executor the executor to run helper threads on
+   * @param parallelism the maximum number of threads to resolve on, including the calling thread
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code names}, or {@code
+   *     parallelism} isn't positive
+   */
+  public void resolveAll(
+      String[] names, OpenEnum<T, String>[] out, Executor executor, int parallelism) {
+    checkBatch(names, out.length, executor, parallelism);
+    ParallelChunks.run(
+        names.length,
+        executor,
+        parallelism,
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            out[i] = resolve(names[i]);
+          }
+        });
+  }
+
+  /**
+   * Resolve an array of names to ordinals in parallel, on the common fork/join pool.
+   *
+   * @param names the names to resolve. May contain nulls.
+   * @param out the array to write the ordinals to, at the same indexes as their names
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code names}
+   * @see #resolveOrdinals(String[], int[], Executor, int)
+   */
+  public void resolveOrdinals(String[] names, int[] out) {
+    resolveOrdinals(
+        names, out, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() + 1);
+  }
+
+  /**
+   * Resolve an array of names to ordinals in parallel.
+   *
+   * <p>This writes the ordinal of the constant each name resolves to, or -1 if the name is unknown.
+   * Unknown names are recorded in the resolver's stats and passed to its listener, but no {@code
+   * OpenEnum} is created for them, and which unknown name was at an index is lost; look the name up
+   * in {@code names} to recover it. Work is split between threads as for {@link
+   * #resolveAll(String[], OpenEnum[], Executor, int)}.
+   *
+   * @param names the names to resolve. May contain nulls.
+   * @param out the array to write the ordinals to, at the same indexes as their names
+   * @param executor the executor to run helper threads on
+   * @param parallelism the maximum number of threads to resolve on, including the calling thread
+   * @throws IllegalArgumentException if {@code out} is shorter than {@code names}, or {@code
+   *     parallelism} isn't positive
+   */
+  public void resolveOrdinals(String[] names, int[] out, Executor executor, int parallelism) {
+    checkBatch(names, out.length, executor, parallelism);
+    ParallelChunks.run(
+        names.length,
+        executor,
+        parallelism,
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            recordResolution();
+            OpenEnum<T, String> value = lookup(names[i]);
+            if (value != null) {
+              out[i] = value.getEnumValue().ordinal();
+            } else {
+              recordUnknown(names[i]);
+              out[i] = -1;
+            }
+          }
+        });
+  }
+
+  private static void checkBatch(
+      String[] names, int outLength, Executor executor, int parallelism) {
+    if (outLength < names.length) {
+      throw new IllegalArgumentException("out is shorter than names");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("executor cannot be null");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+  }
+
+  private OpenEnum<T, String> lookupFolded(String name) {
+    int hash = 0;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (!isIgnored(c)) {
+        hash = 31 * hash + fold(c);
+      }
+    }
+    int index = indexFor(hash);
+    String key;
+    while ((key = keys[index]) != null) {
+      if (matchesFolded(key, name)) {
+        return values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  private OpenEnum<T, String> resolveUtf8Folded(byte[] buf, int off, int len) {
+    int hash = 0;
+    for (int i = off; i < off + len; i++) {
+      if (!isIgnored(buf[i])) {
+        hash = 31 * hash + fold(buf[i]);
+      }
+    }
+    int index = indexFor(hash);
+    byte[] key;
+    while ((key = utf8Keys[index]) != null) {
+      if (matchesFolded(key, buf, off, len)) {
+        return utf8Values[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return unknown(new String(buf, off, len, StandardCharsets.UTF_8));
+  }
+
+  private void recordResolution() {
+    if (stats != null) {
+      stats.recordResolution();
+    }
+  }
+
+  private OpenEnum<T, String> unknown(String name) {
+    recordUnknown(name);
+    if (unknownCache == null) {
+      return OpenEnum.fromUnknown(name);
+    }
+    return unknownCache.intern(name, stats);
+  }
+
+  private void recordUnknown(String name) {
+    if (stats != null) {
+      stats.recordUnknown(name);
+    }
+    if (listener != null) {
+      listener.onUnknownValue(enumType, name);
+    }
+  }
+
+  private static String[] annotatedNames(Enum<?> constant) {
+    WireName wireName;
+    try {
+      wireName =
+          constant.getDeclaringClass().getField(constant.name()).getAnnotation(WireName.class);
+    } catch (NoSuchFieldException e) {
+      throw new IllegalStateException("No field for " + constant, e);
+    }
+    if (wireName == null) {
+      return new String[] {constant.name()};
+    }
+    String[] names = wireName.value();
+    if (names.length == 0) {
+      throw new IllegalArgumentException("@WireName on " + constant + " has no names");
+    }
+    return names;
+  }
+
+  private boolean matches(byte[] key, ByteBuffer buf, int off, int len) {
+    if (folding == 0 && key.length != len) {
+      return false;
+    }
+    int j = 0;
+    for (int i = 0; i < len; i++) {
+      int b = buf.get(off + i);
+      if (isIgnored(b)) {
+        continue;
+      }
+      if (j == key.length || key[j++] != fold(b)) {
+        return false;
+      }
+    }
+    return j == key.length;
+  }
+
+  private boolean matches(String key, char[] buf, int off, int len) {
+    if (folding == 0 && key.length() != len) {
+      return false;
+    }
+    int j = 0;
+    for (int i = off; i < off + len; i++) {
+      char c = buf[i];
+      if (isIgnored(c)) {
+        continue;
+      }
+      if (j == key.length() || key.charAt(j++) != fold(c)) {
+        return false;
+      }
+    }
+    return j == key.length();
+  }
+
+  private boolean matchesFolded(String key, String name) {
+    int j = 0;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (isIgnored(c)) {
+        continue;
+      }
+      if (j == key.length() || key.charAt(j++) != fold(c)) {
+        return false;
+      }
+    }
+    return j == key.length();
+  }
+
+  private boolean matchesFolded(byte[] key, byte[] buf, int off, int len) {
+    int j = 0;
+    for (int i = off; i < off + len; i++) {
+      if (isIgnored(buf[i])) {
+        continue;
+      }
+      if (j == key.length || key[j++] != fold(buf[i])) {
+        return false;
+      }
+    }
+    return j == key.length;
+  }
+
+  private String fold(String name) {
+    if (folding == 0) {
+      return name;
+    }
+    StringBuilder folded = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (!isIgnored(c)) {
+        folded.append((char) fold(c));
+      }
+    }
+    return folded.toString();
+  }
+
+  private int fold(int c) {
+    if ((folding & IGNORE_ASCII_CASE) != 0 && c >= 'A' && c <= 'Z') {
+      return c + ('a' - 'A');
+    }
+    return c;
+  }
+
+  private boolean isIgnored(int c) {
+    return (folding & IGNORE_SEPARATORS) != 0 && (c == '-' || c == '_' || c == ' ');
+  }
+
+  private static int hash(byte[] buf, int off, int len) {
+    int hash = 0;
+    for (int i = off; i < off + len; i++) {
+      hash = 31 * hash + buf[i];
+    }
+    return hash;
+  }
+
+  private int indexFor(int hash) {
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private static int tableSizeFor(int entries) {
+    // Keep the load factor at or below 0.5 so probe sequences stay short.
+    return Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1;
+  }
+
+  /**
+   * A builder for {@link OpenEnumResolver}.
+   *
+   * @param <T> type of the enum
+   */
+  public static final class Builder<T extends Enum<T>> {
+    private final Class<T> enumType;
+    private final Map<T, String[]> names;
+    private int folding;
+    private UnknownValueCache<T, String> unknownCache;
+    private UnknownValueListener listener;
+    private boolean recordStats;
+
+    Builder(Class<T> enumType) {
+      this.enumType = enumType;
+      this.names = new EnumMap<>(enumType);
+    }
+
+    /**
+     * Set the names a constant is resolved from, replacing its default names.
+     *
+     * <p>{@code name} becomes the canonical name returned by {@link OpenEnumResolver#wireName}, and
+     * {@code aliases} are only used when resolving.
+     *
+     * @param constant the constant to name
+     * @param name the canonical name of {@code constant}
+     * @param aliases other names to resolve to {@code constant}
+     * @return this builder
+     */
+    public Builder<T> wireName(T constant, String name, String... aliases) {
+      if (constant == null) {
+        throw new IllegalArgumentException("constant cannot be null");
+      }
+      if (name == null) {
+        throw new IllegalArgumentException("name cannot be null");
+      }
+      String[] constantNames = new String[aliases.length + 1];
+      constantNames[0] = name;
+      for (int i = 0; i < aliases.length; i++) {
+        if (aliases[i] == null) {
+          throw new IllegalArgumentException("aliases cannot contain null");
+        }
+        constantNames[i + 1] = aliases[i];
+      }
+      names.put(constant, constantNames);
+      return this;
+    }
+
+    /**
+     * Set whether names are matched ignoring the case of ASCII letters.
+     *
+     * <p>Only {@code 'A'} to {@code 'Z'} are folded, so matching doesn't depend on the locale. By
+     * default, case is significant.
+     *
+     * @param ignoreAsciiCase whether to ignore the case of ASCII letters
+     * @return this builder
+     */
+    public Builder<T> ignoreAsciiCase(boolean ignoreAsciiCase) {
+      folding = ignoreAsciiCase ? folding | IGNORE_ASCII_CASE : folding & ~IGNORE_ASCII_CASE;
+      return this;
+    }
+
+    /**
+     * Set whether names are matched ignoring hyphens, underscores and spaces.
+     *
+     * <p>With this set, {@code "enterprise-plus"}, {@code "enterprise_plus"} and {@code
+     * "enterpriseplus"} all match each other. By default, separators are significant.
+     *
+     * @param ignoreSeparators whether to ignore separators
+     * @return this builder
+     */
+    public Builder<T> ignoreSeparators(boolean ignoreSeparators) {
+      folding = ignoreSeparators ? folding | IGNORE_SEPARATORS : folding & ~IGNORE_SEPARATORS;
+      return this;
+    }
+
+    /**
+     * Intern unknown values in a cache, so that repeated unknown names share an instance.
+     *
+     * <p>By default, every unknown name resolves to a new instance.
+     *
+     * @param unknownCache the cache to intern unknown values in. May be null to not intern them.
+     * @return this builder
+     */
+    public Builder<T> unknownCache(UnknownValueCache<T, String> unknownCache) {
+      this.unknownCache = unknownCache;
+      return this;
+    }
+
+    /**
+     * Notify a listener each time a name doesn't match any constant.
+     *
+     * <p>The listener is only called on the unknown-name path, so it doesn't slow down resolving
+     * known names. By default, there is no listener.
+     *
+     * @param listener the listener to notify of unknown names. May be null for no listener.
+     * @return this builder
+     */
+    public Builder<T> listener(UnknownValueListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Set whether the resolver records statistics, returned by {@link OpenEnumResolver#stats}.
+     *
+     * <p>Recording statistics adds an increment of a {@link LongAdder} to every resolution. By
+     * default, statistics aren't recorded.
+     *
+     * @param recordStats whether to record statistics
+     * @return this builder
+     */
+    public Builder<T> recordStats(boolean recordStats) {
+      this.recordStats = recordStats;
+      return this;
+    }
+
+    /**
+     * Build the resolver.
+     *
+     * @return a resolver configured by this builder
+     * @throws IllegalArgumentException if the same name is given to more than one constant, or
+     *     names of different constants match each other once case or separators are ignored
+     */
+    public OpenEnumResolver<T> build() {
+      return new OpenEnumResolver<>(this);
+    }
+  }
+}
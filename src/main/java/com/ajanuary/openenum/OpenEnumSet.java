@@ -0,0 +1,372 @@
+package com.ajanuary.openenum;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of {@link OpenEnum} values.
+ *
+ * <p>Like {@link java.util.EnumSet}, enum values are stored as bits in a bit vector indexed by
+ * ordinal, so membership tests and bulk operations between sets of the same enum are bitwise
+ * operations. Unknown values are kept in a separate hash map keyed by the unknown value, which is
+ * only created once an unknown value is added.
+ *
+ * <p>Iteration returns enum values in ordinal order, followed by unknown values in no particular
+ * order. Enum values are returned as the canonical instances from {@link OpenEnum#fromEnum}.
+ *
+ * <p>Like most collections, this set isn't thread safe.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ */
+public final class OpenEnumSet<T extends Enum<T>, U> extends AbstractSet<OpenEnum<T, U>> {
+  private final Class<T> enumType;
+  private final OpenEnum<T, U>[] knownValues;
+  private final long[] words;
+  private Map<U, OpenEnum<T, U>> unknownValues;
+  private int modCount;
+
+  private OpenEnumSet(Class<T> enumType) {
+    this.enumType = enumType;
+    this.knownValues = OpenEnum.knownValues(enumType);
+    this.words = new long[(knownValues.length + 63) >>> 6];
+  }
+
+  /**
+   * Create an empty set.
+   *
+   * @param enumType the class of the enum
+   * @return an empty set
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> OpenEnumSet<T, U> noneOf(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new OpenEnumSet<>(enumType);
+  }
+
+  /**
+   * Create a set containing every constant of an enum, and no unknown values.
+   *
+   * @param enumType the class of the enum
+   * @return a set containing every constant of {@code enumType}
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> OpenEnumSet<T, U> allOf(Class<T> enumType) {
+    OpenEnumSet<T, U> set = noneOf(enumType);
+    int length = set.knownValues.length;
+    Arrays.fill(set.words, -1L);
+    if ((length & 63) != 0) {
+      set.words[set.words.length - 1] = -1L >>> -length;
+    }
+    return set;
+  }
+
+  /**
+   * Create a set containing the same values as another set.
+   *
+   * @param set the set to copy
+   * @return a new set containing the values of {@code set}
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> OpenEnumSet<T, U> copyOf(OpenEnumSet<T, U> set) {
+    OpenEnumSet<T, U> copy = new OpenEnumSet<>(set.enumType);
+    System.arraycopy(set.words, 0, copy.words, 0, set.words.length);
+    if (set.unknownValues != null && !set.unknownValues.isEmpty()) {
+      copy.unknownValues = new HashMap<>(set.unknownValues);
+    }
+    return copy;
+  }
+
+  /**
+   * Returns {@code true} if this set contains the given enum value.
+   *
+   * @param enumValue the enum value to look for. May be null, which is never contained.
+   * @return {@code true} if this set contains {@code enumValue}
+   */
+  public boolean contains(T enumValue) {
+    if (enumValue == null) {
+      return false;
+    }
+    int ordinal = enumValue.ordinal();
+    return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof OpenEnum<?, ?> openEnum)) {
+      return false;
+    }
+    if (openEnum.isUnknownValue()) {
+      return unknownValues != null && unknownValues.containsKey(openEnum.getUnknownValue());
+    }
+    Enum<?> enumValue = openEnum.getEnumValue();
+    return enumValue.getDeclaringClass() == enumType && contains(enumType.cast(enumValue));
+  }
+
+  /**
+   * Adds the given enum value to this set, if it isn't already present.
+   *
+   * @param enumValue the enum value to add
+   * @return {@code true} if this set didn't already contain {@code enumValue}
+   */
+  public boolean add(T enumValue) {
+    int ordinal = checkEnumValue(enumValue).ordinal();
+    long word = words[ordinal >>> 6];
+    words[ordinal >>> 6] = word | (1L << ordinal);
+    if (word == words[ordinal >>> 6]) {
+      return false;
+    }
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean add(OpenEnum<T, U> openEnum) {
+    if (openEnum.isEnumValue()) {
+      return add(openEnum.getEnumValue());
+    }
+    if (unknownValues == null) {
+      unknownValues = new HashMap<>();
+    }
+    if (unknownValues.putIfAbsent(openEnum.getUnknownValue(), openEnum) != null) {
+      return false;
+    }
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Removes the given enum value from this set, if it is present.
+   *
+   * @param enumValue the enum value to remove. May be null, which is never contained.
+   * @return {@code true} if this set contained {@code enumValue}
+   */
+  public boolean remove(T enumValue) {
+    if (enumValue == null) {
+      return false;
+    }
+    int ordinal = enumValue.ordinal();
+    long word = words[ordinal >>> 6];
+    words[ordinal >>> 6] = word & ~(1L << ordinal);
+    if (word == words[ordinal >>> 6]) {
+      return false;
+    }
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof OpenEnum<?, ?> openEnum)) {
+      return false;
+    }
+    if (openEnum.isUnknownValue()) {
+      if (unknownValues == null || unknownValues.remove(openEnum.getUnknownValue()) == null) {
+        return false;
+      }
+      modCount++;
+      return true;
+    }
+    Enum<?> enumValue = openEnum.getEnumValue();
+    return enumValue.getDeclaringClass() == enumType && remove(enumType.cast(enumValue));
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (!(c instanceof OpenEnumSet<?, ?> other) || other.enumType != enumType) {
+      return super.containsAll(c);
+    }
+    for (int i = 0; i < words.length; i++) {
+      if ((other.words[i] & ~words[i]) != 0) {
+        return false;
+      }
+    }
+    return other.unknownValues == null
+        || (unknownValues == null
+            ? other.unknownValues.isEmpty()
+            : unknownValues.keySet().containsAll(other.unknownValues.keySet()));
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends OpenEnum<T, U>> c) {
+    if (!(c instanceof OpenEnumSet<?, ?> other) || other.enumType != enumType) {
+      return super.addAll(c);
+    }
+    boolean changed = false;
+    for (int i = 0; i < words.length; i++) {
+      long word = words[i];
+      words[i] = word | other.words[i];
+      changed |= word != words[i];
+    }
+    if (other.unknownValues != null && !other.unknownValues.isEmpty()) {
+      if (unknownValues == null) {
+        unknownValues = new HashMap<>();
+      }
+      @SuppressWarnings("unchecked")
+      Map<U, OpenEnum<T, U>> otherUnknownValues =
+          (Map<U, OpenEnum<T, U>>) (Map<?, ?>) other.unknownValues;
+      for (Map.Entry<U, OpenEnum<T, U>> entry : otherUnknownValues.entrySet()) {
+        changed |= unknownValues.putIfAbsent(entry.getKey(), entry.getValue()) == null;
+      }
+    }
+    if (changed) {
+      modCount++;
+    }
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (!(c instanceof OpenEnumSet<?, ?> other) || other.enumType != enumType) {
+      return super.retainAll(c);
+    }
+    boolean changed = false;
+    for (int i = 0; i < words.length; i++) {
+      long word = words[i];
+      words[i] = word & other.words[i];
+      changed |= word != words[i];
+    }
+    if (unknownValues != null && !unknownValues.isEmpty()) {
+      if (other.unknownValues == null) {
+        unknownValues.clear();
+        changed = true;
+      } else {
+        changed |= unknownValues.keySet().retainAll(other.unknownValues.keySet());
+      }
+    }
+    if (changed) {
+      modCount++;
+    }
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (!(c instanceof OpenEnumSet<?, ?> other) || other.enumType != enumType) {
+      return super.removeAll(c);
+    }
+    boolean changed = false;
+    for (int i = 0; i < words.length; i++) {
+      long word = words[i];
+      words[i] = word & ~other.words[i];
+      changed |= word != words[i];
+    }
+    if (unknownValues != null && other.unknownValues != null) {
+      changed |= unknownValues.keySet().removeAll(other.unknownValues.keySet());
+    }
+    if (changed) {
+      modCount++;
+    }
+    return changed;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(words, 0);
+    if (unknownValues != null) {
+      unknownValues.clear();
+    }
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (long word : words) {
+      size += Long.bitCount(word);
+    }
+    if (unknownValues != null) {
+      size += unknownValues.size();
+    }
+    return size;
+  }
+
+  @Override
+  public Iterator<OpenEnum<T, U>> iterator() {
+    return new SetIterator();
+  }
+
+  private T checkEnumValue(T enumValue) {
+    if (enumValue == null) {
+      throw new IllegalArgumentException("enumValue cannot be null");
+    }
+    if (enumValue.getDeclaringClass() != enumType) {
+      throw new ClassCastException(enumValue.getDeclaringClass() + " != " + enumType);
+    }
+    return enumValue;
+  }
+
+  private final class SetIterator implements Iterator<OpenEnum<T, U>> {
+    private int wordIndex;
+    private long unseen = words.length == 0 ? 0 : words[0];
+    private int lastOrdinal = -1;
+    private Iterator<OpenEnum<T, U>> unknownIterator;
+    private boolean lastWasUnknown;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      while (unseen == 0 && wordIndex < words.length - 1) {
+        unseen = words[++wordIndex];
+      }
+      if (unseen != 0) {
+        return true;
+      }
+      if (unknownIterator == null) {
+        if (unknownValues == null) {
+          return false;
+        }
+        unknownIterator = unknownValues.values().iterator();
+      }
+      return unknownIterator.hasNext();
+    }
+
+    @Override
+    public OpenEnum<T, U> next() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (unseen != 0) {
+        long bit = unseen & -unseen;
+        unseen -= bit;
+        lastOrdinal = (wordIndex << 6) + Long.numberOfTrailingZeros(bit);
+        lastWasUnknown = false;
+        return knownValues[lastOrdinal];
+      }
+      lastOrdinal = -1;
+      lastWasUnknown = true;
+      return unknownIterator.next();
+    }
+
+    @Override
+    public void remove() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (lastWasUnknown) {
+        unknownIterator.remove();
+        lastWasUnknown = false;
+      } else if (lastOrdinal >= 0) {
+        words[lastOrdinal >>> 6] &= ~(1L << lastOrdinal);
+        lastOrdinal = -1;
+      } else {
+        throw new IllegalStateException();
+      }
+      expectedModCount = ++modCount;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package com.ajanuary.openenum;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * An enum wrapper for enums that are encoded as ints, that allows them to be extended with unknown
+ * codes.
+ *
+ * <p>Contains either an enum value, or the int code that didn't match a constant. Unlike {@code
+ * OpenEnum<T, Integer>}, the unknown code is held as a primitive, so wrapping it doesn't box.
+ *
+ * <p>Use {@link OpenIntEnumResolver} to resolve codes to values.
+ *
+ * @param <T> type of the enum
+ */
+public final class OpenIntEnum<T extends Enum<T>> {
+  /** The canonical instance for each constant of an enum, indexed by ordinal. */
+  private static final ClassValue<OpenIntEnum<?>[]> KNOWN_VALUES =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected OpenIntEnum<?>[] computeValue(Class<?> type) {
+          return createKnownValues((Class) type);
+        }
+      };
+
+  private final T enumValue;
+  private final int unknownValue;
+
+  private OpenIntEnum(T enumValue, int unknownValue) {
+    this.enumValue = enumValue;
+    this.unknownValue = unknownValue;
+  }
+
+  /**
+   * Create an OpenIntEnum with a given enum value.
+   *
+   * <p>Every call with the same enum value returns the same shared instance, so this never
+   * allocates.
+   *
+   * @param enumValue the enum value to assign to the OpenIntEnum. Must not be null.
+   * @return an {@code OpenIntEnum} containing the given enum value
+   * @param <T> type of the enum
+   */
+  public static <T extends Enum<T>> OpenIntEnum<T> fromEnum(T enumValue) {
+    if (enumValue == null) {
+      throw new IllegalArgumentException("enumValue cannot be null");
+    }
+    return knownValues(enumValue.getDeclaringClass())[enumValue.ordinal()];
+  }
+
+  /**
+   * Create an OpenIntEnum with a code that doesn't match a constant of the enum.
+   *
+   * @param unknownValue the unknown code to assign to the OpenIntEnum
+   * @return an {@code OpenIntEnum} containing the given unknown code
+   * @param <T> type of the enum
+   */
+  public static <T extends Enum<T>> OpenIntEnum<T> fromUnknown(int unknownValue) {
+    return new OpenIntEnum<>(null, unknownValue);
+  }
+
+  /**
+   * Get the canonical instances for every constant of an enum, indexed by ordinal.
+   *
+   * <p>The returned array is shared, so it must not be modified.
+   */
+  static <T extends Enum<T>> OpenIntEnum<T>[] knownValues(Class<T> enumType) {
+    @SuppressWarnings("unchecked")
+    OpenIntEnum<T>[] knownValues = (OpenIntEnum<T>[]) KNOWN_VALUES.get(enumType);
+    return knownValues;
+  }
+
+  private static <T extends Enum<T>> OpenIntEnum<?>[] createKnownValues(Class<T> enumType) {
+    T[] constants = enumType.getEnumConstants();
+    OpenIntEnum<?>[] knownValues = new OpenIntEnum<?>[constants.length];
+    for (T constant : constants) {
+      knownValues[constant.ordinal()] = new OpenIntEnum<>(constant, 0);
+    }
+    return knownValues;
+  }
+
+  /**
+   * If an enum value is present, returns {@code true}, otherwise {@code false}.
+   *
+   * @return {@code true} if an enum value is present, otherwise {@code false}
+   */
+  public boolean isEnumValue() {
+    return enumValue != null;
+  }
+
+  /**
+   * If an unknown code is present, returns {@code true}, otherwise {@code false}.
+   *
+   * @return {@code true} if an unknown code is present, otherwise {@code false}
+   */
+  public boolean isUnknownValue() {
+    return enumValue == null;
+  }
+
+  /**
+   * If an enum value is present, returns the value, otherwise throws NoSuchElementException.
+   *
+   * @return the enum value this {@code OpenIntEnum} contains
+   * @throws NoSuchElementException if no enum value is present
+   */
+  public T getEnumValue() {
+    if (!isEnumValue()) {
+      throw new NoSuchElementException("No enum value present");
+    }
+    return enumValue;
+  }
+
+  /**
+   * If an unknown code is present, returns the code, otherwise throws NoSuchElementException.
+   *
+   * @return the unknown code this {@code OpenIntEnum} contains
+   * @throws NoSuchElementException if no unknown code is present
+   */
+  public int getUnknownValue() {
+    if (!isUnknownValue()) {
+      throw new NoSuchElementException("No unknown value present");
+    }
+    return unknownValue;
+  }
+
+  /**
+   * Apply one of two functions, depending on whether an enum value or an unknown code is present.
+   *
+   * @param enumMapper function to apply to the enum value, if one is present
+   * @param unknownMapper function to apply to the unknown code, if one is present
+   * @return the result of applying either the enum function to the enum value, or the unknown
+   *     function to the unknown code
+   * @param <V> return type of the functions
+   */
+  public <V> V fold(Function<T, V> enumMapper, IntFunction<V> unknownMapper) {
+    if (enumValue == null) {
+      return unknownMapper.apply(unknownValue);
+    }
+    return enumMapper.apply(enumValue);
+  }
+
+  /**
+   * Apply one of two consumers, depending on whether an enum value or an unknown code is present.
+   *
+   * @param enumConsumer consumer to apply to the enum value, if one is present
+   * @param unknownConsumer consumer to apply to the unknown code, if one is present
+   */
+  public void handle(Consumer<T> enumConsumer, IntConsumer unknownConsumer) {
+    if (enumValue == null) {
+      unknownConsumer.accept(unknownValue);
+    } else {
+      enumConsumer.accept(enumValue);
+    }
+  }
+
+  /**
+   * If an enum is present, return an Optional containing the value. Otherwise return an empty
+   * Optional value.
+   *
+   * @return the enum value wrapped in an {@link Optional} if present, otherwise {@link
+   *     Optional#empty()}
+   */
+  public Optional<T> asOptional() {
+    if (isUnknownValue()) {
+      return Optional.empty();
+    }
+    return Optional.of(enumValue);
+  }
+
+  /**
+   * Convert to an {@link OpenEnum}, boxing the unknown code if one is present.
+   *
+   * @return an {@code OpenEnum} containing the same enum value or unknown code
+   */
+  public OpenEnum<T, Integer> toOpenEnum() {
+    if (enumValue == null) {
+      return OpenEnum.fromUnknown(unknownValue);
+    }
+    return OpenEnum.fromEnum(enumValue);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof OpenIntEnum<?> openIntEnum)) {
+      return false;
+    }
+    return enumValue == openIntEnum.enumValue && unknownValue == openIntEnum.unknownValue;
+  }
+
+  @Override
+  public String toString() {
+    if (enumValue == null) {
+      return "OpenIntEnum{unknown:" + unknownValue + "}";
+    }
+    return "OpenIntEnum{" + enumValue + "}";
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Objects.hashCode(enumValue) + unknownValue;
+  }
+}
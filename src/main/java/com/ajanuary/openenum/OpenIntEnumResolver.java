@@ -0,0 +1,305 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Resolves int codes to {@link OpenIntEnum} values.
+ *
+ * <p>When the codes of the constants cover a small, mostly contiguous range, they are looked up in
+ * an array indexed by code. Otherwise they are looked up in an open-addressing hash table of
+ * primitive ints. Either way, resolving a known code doesn't allocate, and resolving an unknown
+ * code only allocates the {@code OpenIntEnum} that holds it.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @param <T> type of the enum
+ */
+public final class OpenIntEnumResolver<T extends Enum<T>> {
+  /** The smallest code range that is always stored densely, however few codes it contains. */
+  private static final int MIN_DENSE_RANGE = 64;
+
+  private final Class<T> enumType;
+  private final int[] codes;
+  // Dense lookup: dense[code - minCode], or null if the codes are sparse.
+  private final OpenIntEnum<T>[] dense;
+  private final int minCode;
+  // Sparse lookup: an open-addressing table, with null values marking empty slots.
+  private final int[] keys;
+  private final OpenIntEnum<T>[] values;
+  private final int shift;
+  private final UnknownValueListener listener;
+
+  private OpenIntEnumResolver(
+      Class<T> enumType, int[] codes, Map<Integer, T> entries, UnknownValueListener listener) {
+    this.enumType = enumType;
+    this.codes = codes;
+    this.listener = listener;
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int code : entries.keySet()) {
+      min = Math.min(min, code);
+      max = Math.max(max, code);
+    }
+    OpenIntEnum<T>[] knownValues = OpenIntEnum.knownValues(enumType);
+    long range = entries.isEmpty() ? 0 : (long) max - min + 1;
+    if (range <= Math.max(MIN_DENSE_RANGE, 4L * entries.size())) {
+      this.minCode = min;
+      this.dense = newArray((int) range);
+      for (Map.Entry<Integer, T> entry : entries.entrySet()) {
+        dense[entry.getKey() - min] = knownValues[entry.getValue().ordinal()];
+      }
+      this.keys = null;
+      this.values = null;
+      this.shift = 0;
+    } else {
+      this.minCode = 0;
+      this.dense = null;
+      // Keep the load factor at or below 0.5 so probe sequences stay short.
+      int capacity = Integer.highestOneBit(entries.size() * 2 - 1) << 1;
+      this.keys = new int[capacity];
+      this.values = newArray(capacity);
+      this.shift = Integer.numberOfLeadingZeros(capacity - 1);
+      int mask = capacity - 1;
+      for (Map.Entry<Integer, T> entry : entries.entrySet()) {
+        int index = indexFor(entry.getKey());
+        while (values[index] != null) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = entry.getKey();
+        values[index] = knownValues[entry.getValue().ordinal()];
+      }
+    }
+  }
+
+  /**
+   * Create a resolver that resolves the code of each constant, as given by a function.
+   *
+   * <p>For example, {@code OpenIntEnumResolver.of(Status.class, Status::getCode)}.
+   *
+   * @param enumType the class of the enum
+   * @param codeFunction function that returns the code of a constant
+   * @return a resolver for {@code enumType}
+   * @param <T> type of the enum
+   * @throws IllegalArgumentException if two constants have the same code
+   */
+  public static <T extends Enum<T>> OpenIntEnumResolver<T> of(
+      Class<T> enumType, ToIntFunction<T> codeFunction) {
+    Builder<T> builder = builder(enumType);
+    for (T constant : enumType.getEnumConstants()) {
+      builder.code(constant, codeFunction.applyAsInt(constant));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create a resolver that resolves the IDs each constant is annotated with by {@link OpenEnumId}.
+   *
+   * @param enumType the class of the enum
+   * @return a resolver for {@code enumType}
+   * @param <T> type of the enum
+   * @throws IllegalArgumentException if two constants have the same ID, or a constant is annotated
+   *     with no IDs
+   * @throws IllegalStateException if a constant isn't annotated with {@code OpenEnumId}
+   */
+  public static <T extends Enum<T>> OpenIntEnumResolver<T> ofAnnotated(Class<T> enumType) {
+    Builder<T> builder = builder(enumType);
+    for (T constant : enumType.getEnumConstants()) {
+      OpenEnumId id;
+      try {
+        id = enumType.getField(constant.name()).getAnnotation(OpenEnumId.class);
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException("No field for " + constant, e);
+      }
+      if (id == null) {
+        continue;
+      }
+      if (id.value().length == 0) {
+        throw new IllegalArgumentException("@OpenEnumId on " + constant + " has no IDs");
+      }
+      for (int code : id.value()) {
+        builder.code(constant, code);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create a builder for a resolver that is given the code of each constant individually.
+   *
+   * @param enumType the class of the enum
+   * @return a builder for a resolver for {@code enumType}
+   * @param <T> type of the enum
+   */
+  public static <T extends Enum<T>> Builder<T> builder(Class<T> enumType) {
+    if (enumType == null || !enumType.isEnum()) {
+      throw new IllegalArgumentException("enumType must be an enum");
+    }
+    return new Builder<>(enumType);
+  }
+
+  /**
+   * Get the class of the enum this resolver resolves to.
+   *
+   * @return the class of the enum
+   */
+  public Class<T> getEnumType() {
+    return enumType;
+  }
+
+  /**
+   * Resolve a code to an OpenIntEnum.
+   *
+   * @param code the code to resolve
+   * @return an {@code OpenIntEnum} containing the constant with the given code if there is one,
+   *     otherwise an {@code OpenIntEnum} containing the code as an unknown value
+   */
+  public OpenIntEnum<T> resolve(int code) {
+    OpenIntEnum<T> value = lookup(code);
+    return value != null ? value : unknown(code);
+  }
+
+  /**
+   * Look up the constant with a code, without treating a code that isn't found as unknown.
+   *
+   * <p>Unlike {@link #resolve}, a code that isn't found isn't passed to the listener, and nothing
+   * is allocated. It suits callers that read codes that aren't found as a different type of unknown
+   * value.
+   *
+   * @param code the code to look up
+   * @return an {@code OpenIntEnum} containing the constant with the given code, or null if there
+   *     isn't one
+   */
+  public OpenIntEnum<T> lookup(int code) {
+    if (dense != null) {
+      // Codes below minCode wrap around to large unsigned indexes, so one comparison is enough.
+      int index = code - minCode;
+      return Integer.compareUnsigned(index, dense.length) < 0 ? dense[index] : null;
+    }
+    int mask = values.length - 1;
+    int index = indexFor(code);
+    OpenIntEnum<T> value;
+    while ((value = values[index]) != null) {
+      if (keys[index] == code) {
+        return value;
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Get the code of a constant.
+   *
+   * <p>If the constant was given more than one code, this is the first.
+   *
+   * @param constant the constant to get the code of
+   * @return the code of {@code constant}
+   */
+  public int code(T constant) {
+    return codes[constant.ordinal()];
+  }
+
+  private OpenIntEnum<T> unknown(int code) {
+    if (listener != null) {
+      listener.onUnknownValue(enumType, code);
+    }
+    return OpenIntEnum.fromUnknown(code);
+  }
+
+  private int indexFor(int code) {
+    // Fibonacci hashing spreads codes that only differ in their high bits across the table.
+    return (code * 0x9e3779b9) >>> shift;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Enum<T>> OpenIntEnum<T>[] newArray(int length) {
+    return (OpenIntEnum<T>[]) new OpenIntEnum<?>[length];
+  }
+
+  /**
+   * A builder for {@link OpenIntEnumResolver}.
+   *
+   * <p>Every constant of the enum must be given a code before the resolver can be built.
+   *
+   * @param <T> type of the enum
+   */
+  public static final class Builder<T extends Enum<T>> {
+    private final Class<T> enumType;
+    private final T[] constants;
+    private final int[] codes;
+    private final boolean[] coded;
+    private final Map<Integer, T> entries = new LinkedHashMap<>();
+    private UnknownValueListener listener;
+
+    Builder(Class<T> enumType) {
+      this.enumType = enumType;
+      this.constants = enumType.getEnumConstants();
+      this.codes = new int[constants.length];
+      this.coded = new boolean[constants.length];
+    }
+
+    /**
+     * Give a constant a code.
+     *
+     * <p>A constant can be given more than one code, in which case each of them resolves to it. The
+     * first is the one returned by {@link OpenIntEnumResolver#code}.
+     *
+     * @param constant the constant to give a code
+     * @param code the code of {@code constant}
+     * @return this builder
+     * @throws IllegalArgumentException if {@code code} has already been given to another constant
+     */
+    public Builder<T> code(T constant, int code) {
+      if (constant == null) {
+        throw new IllegalArgumentException("constant cannot be null");
+      }
+      T previous = entries.putIfAbsent(code, constant);
+      if (previous != null && previous != constant) {
+        throw new IllegalArgumentException(
+            "Code " + code + " is used by both " + previous + " and " + constant);
+      }
+      if (!coded[constant.ordinal()]) {
+        coded[constant.ordinal()] = true;
+        codes[constant.ordinal()] = code;
+      }
+      return this;
+    }
+
+    /**
+     * Notify a listener each time a code doesn't match any constant.
+     *
+     * <p>The listener is only called on the unknown-code path, so it doesn't slow down resolving
+     * known codes. By default, there is no listener.
+     *
+     * @param listener the listener to notify of unknown codes. May be null for no listener.
+     * @return this builder
+     */
+    public Builder<T> listener(UnknownValueListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Build the resolver.
+     *
+     * @return a resolver configured by this builder
+     * @throws IllegalStateException if a constant hasn't been given a code
+     */
+    public OpenIntEnumResolver<T> build() {
+      List<T> uncoded = new ArrayList<>();
+      for (T constant : constants) {
+        if (!coded[constant.ordinal()]) {
+          uncoded.add(constant);
+        }
+      }
+      if (!uncoded.isEmpty()) {
+        throw new IllegalStateException("No code for " + uncoded);
+      }
+      return new OpenIntEnumResolver<>(enumType, codes.clone(), entries, listener);
+    }
+  }
+}
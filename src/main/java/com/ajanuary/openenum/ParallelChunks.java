@@ -0,0 +1,108 @@
+package com.ajanuary.openenum;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs work over a range of indexes in parallel, split into fixed-size chunks.
+ *
+ * <p>Chunks are small enough that a chunk of input and output stays in cache, and are claimed one
+ * at a time from a shared counter, so threads that run faster take more of them. The calling thread
+ * works on chunks too, so the work completes even if the executor never runs the helpers it is
+ * given.
+ */
+final class ParallelChunks {
+  static final int CHUNK_SIZE = 4096;
+
+  private ParallelChunks() {}
+
+  /** Work on the indexes of one chunk. */
+  @FunctionalInterface
+  interface Chunk {
+    void run(int from, int to);
+  }
+
+  /**
+   * Run work over the indexes from 0 to {@code length}, and wait for it to complete.
+   *
+   * @param length the number of indexes
+   * @param executor the executor to run helpers on
+   * @param parallelism the maximum number of threads to work on, including the calling thread
+   * @param chunk the work to run on each chunk
+   */
+  static void run(int length, Executor executor, int parallelism, Chunk chunk) {
+    int chunkCount = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    if (chunkCount <= 1 || parallelism == 1) {
+      chunk.run(0, length);
+      return;
+    }
+    Work work = new Work(length, chunkCount, chunk);
+    int helpers = Math.min(parallelism, chunkCount) - 1;
+    try {
+      for (int i = 0; i < helpers; i++) {
+        executor.execute(work);
+      }
+    } catch (RejectedExecutionException e) {
+      // The calling thread will do whatever the helpers don't.
+    }
+    work.run();
+    work.await();
+  }
+
+  private static final class Work implements Runnable {
+    private final int length;
+    private final int chunkCount;
+    private final Chunk chunk;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final CountDownLatch remaining;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Work(int length, int chunkCount, Chunk chunk) {
+      this.length = length;
+      this.chunkCount = chunkCount;
+      this.chunk = chunk;
+      this.remaining = new CountDownLatch(chunkCount);
+    }
+
+    @Override
+    public void run() {
+      int index;
+      while ((index = nextChunk.getAndIncrement()) < chunkCount) {
+        int from = index * CHUNK_SIZE;
+        try {
+          chunk.run(from, Math.min(from + CHUNK_SIZE, length));
+        } catch (RuntimeException | Error e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          remaining.countDown();
+        }
+      }
+    }
+
+    void await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          remaining.await();
+          break;
+        } catch (InterruptedException e) {
+          // Chunks are short, so finish waiting rather than leave helpers writing to the output.
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      Throwable failure = this.failure.get();
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+    }
+  }
+}
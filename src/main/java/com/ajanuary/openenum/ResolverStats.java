@@ -0,0 +1,113 @@
+package com.ajanuary.openenum;
+
+/**
+ * Statistics about the names resolved by an {@link OpenEnumResolver}, at a point in time.
+ *
+ * <p>Statistics are only recorded by resolvers built with {@link
+ * OpenEnumResolver.Builder#recordStats}.
+ */
+public final class ResolverStats {
+  private final long resolutionCount;
+  private final long unknownCount;
+  private final long distinctUnknownCount;
+  private final long cacheHitCount;
+  private final long cacheMissCount;
+
+  ResolverStats(
+      long resolutionCount,
+      long unknownCount,
+      long distinctUnknownCount,
+      long cacheHitCount,
+      long cacheMissCount) {
+    this.resolutionCount = resolutionCount;
+    this.unknownCount = unknownCount;
+    this.distinctUnknownCount = distinctUnknownCount;
+    this.cacheHitCount = cacheHitCount;
+    this.cacheMissCount = cacheMissCount;
+  }
+
+  /**
+   * Get the number of names resolved.
+   *
+   * @return the number of names resolved
+   */
+  public long resolutionCount() {
+    return resolutionCount;
+  }
+
+  /**
+   * Get the number of names resolved that didn't match a constant.
+   *
+   * @return the number of unknown names
+   */
+  public long unknownCount() {
+    return unknownCount;
+  }
+
+  /**
+   * Get the fraction of names resolved that didn't match a constant.
+   *
+   * @return the fraction of unknown names, or 0 if no names have been resolved
+   */
+  public double unknownRate() {
+    return resolutionCount == 0 ? 0 : (double) unknownCount / resolutionCount;
+  }
+
+  /**
+   * Get an estimate of the number of distinct names resolved that didn't match a constant.
+   *
+   * <p>The estimate is kept in a fixed amount of memory, however many distinct names there are, and
+   * is usually within a few percent of the true number.
+   *
+   * @return an estimate of the number of distinct unknown names
+   */
+  public long distinctUnknownCount() {
+    return distinctUnknownCount;
+  }
+
+  /**
+   * Get the number of unknown names the resolver found in its {@link UnknownValueCache}.
+   *
+   * <p>Only lookups by the resolver are counted, even if the cache is shared with other resolvers.
+   *
+   * @return the number of cache hits, or 0 if the resolver has no cache
+   */
+  public long cacheHitCount() {
+    return cacheHitCount;
+  }
+
+  /**
+   * Get the number of unknown names the resolver didn't find in its {@link UnknownValueCache}.
+   *
+   * @return the number of cache misses, or 0 if the resolver has no cache
+   */
+  public long cacheMissCount() {
+    return cacheMissCount;
+  }
+
+  /**
+   * Get the fraction of unknown names the resolver found in its {@link UnknownValueCache}.
+   *
+   * @return the fraction of cache lookups that hit, or 0 if there have been none
+   */
+  public double cacheHitRate() {
+    long lookups = cacheHitCount + cacheMissCount;
+    return lookups == 0 ? 0 : (double) cacheHitCount / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return "ResolverStats{"
+        + "resolutionCount="
+        + resolutionCount
+        + ", unknownCount="
+        + unknownCount
+        + ", distinctUnknownCount="
+        + distinctUnknownCount
+        + ", cacheHitCount="
+        + cacheHitCount
+        + ", cacheMissCount="
+        + cacheMissCount
+        + '}';
+  }
+}
@@ -0,0 +1,114 @@
+package com.ajanuary.openenum;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records statistics about the names resolved by an {@link OpenEnumResolver}.
+ *
+ * <p>Each method reads the current value of a single statistic, so a metrics system that reports
+ * each one separately doesn't compute the others. In particular, only {@link #distinctUnknownCount}
+ * computes the estimate of distinct unknown names. Use {@link #snapshot} to read every statistic at
+ * once.
+ */
+public final class ResolverStatsRecorder {
+  private final LongAdder resolutions = new LongAdder();
+  private final LongAdder unknowns = new LongAdder();
+  private final HyperLogLog distinctUnknowns = new HyperLogLog();
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+
+  ResolverStatsRecorder() {}
+
+  void recordResolution() {
+    resolutions.increment();
+  }
+
+  void recordUnknown(String name) {
+    unknowns.increment();
+    distinctUnknowns.add(name);
+  }
+
+  void recordCacheLookup(boolean hit) {
+    if (hit) {
+      cacheHits.increment();
+    } else {
+      cacheMisses.increment();
+    }
+  }
+
+  /**
+   * Get the number of names resolved.
+   *
+   * @return the number of names resolved
+   */
+  public long resolutionCount() {
+    return resolutions.sum();
+  }
+
+  /**
+   * Get the number of names resolved that didn't match a constant.
+   *
+   * @return the number of unknown names
+   */
+  public long unknownCount() {
+    return unknowns.sum();
+  }
+
+  /**
+   * Get the fraction of names resolved that didn't match a constant.
+   *
+   * @return the fraction of unknown names, or 0 if no names have been resolved
+   */
+  public double unknownRate() {
+    // Read unknowns first, so a resolution between the reads can't push the rate above 1.
+    long unknownCount = unknowns.sum();
+    long resolutionCount = resolutions.sum();
+    return resolutionCount == 0 ? 0 : Math.min(1, (double) unknownCount / resolutionCount);
+  }
+
+  /**
+   * Get an estimate of the number of distinct names resolved that didn't match a constant.
+   *
+   * @return an estimate of the number of distinct unknown names
+   * @see ResolverStats#distinctUnknownCount
+   */
+  public long distinctUnknownCount() {
+    return distinctUnknowns.estimate();
+  }
+
+  /**
+   * Get the number of unknown names this resolver found in its {@link UnknownValueCache}.
+   *
+   * <p>Only lookups by this resolver are counted, even if the cache is shared with other resolvers.
+   *
+   * @return the number of cache hits, or 0 if the resolver has no cache
+   */
+  public long cacheHitCount() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * Get the number of unknown names this resolver didn't find in its {@link UnknownValueCache}.
+   *
+   * <p>Only lookups by this resolver are counted, even if the cache is shared with other resolvers.
+   *
+   * @return the number of cache misses, or 0 if the resolver has no cache
+   */
+  public long cacheMissCount() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * Read every statistic.
+   *
+   * @return the statistics recorded so far
+   */
+  public ResolverStats snapshot() {
+    return new ResolverStats(
+        resolutionCount(),
+        unknownCount(),
+        distinctUnknownCount(),
+        cacheHitCount(),
+        cacheMissCount());
+  }
+}
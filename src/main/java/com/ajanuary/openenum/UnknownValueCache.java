@@ -0,0 +1,149 @@
+package com.ajanuary.openenum;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache that interns unknown values, so that equal unknown values share a single {@link
+ * OpenEnum} instance.
+ *
+ * <p>When the cache is full, the least recently used value is evicted. Evicted values are still
+ * valid; interning them again just creates a new shared instance.
+ *
+ * <p>The cache is split into independently locked segments so that it can be used from many threads
+ * at once. Eviction is least recently used within each segment. Each segment holds at least {@value
+ * #MIN_SEGMENT_SIZE} values, so small caches use fewer segments rather than evicting values that
+ * happen to share a tiny segment.
+ *
+ * @param <T> type of the enum
+ * @param <U> type of the unknown value
+ */
+public final class UnknownValueCache<T extends Enum<T>, U> {
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_SIZE = 8;
+
+  private final Segment<T, U>[] segments;
+  private final int segmentMask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private UnknownValueCache(int maximumSize) {
+    int segmentCount =
+        Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+    @SuppressWarnings("unchecked")
+    Segment<T, U>[] segments = (Segment<T, U>[]) new Segment<?, ?>[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      int segmentSize = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+      segments[i] = new Segment<>(segmentSize);
+    }
+    this.segments = segments;
+    this.segmentMask = segmentCount - 1;
+  }
+
+  /**
+   * Create a cache that holds at most the given number of unknown values.
+   *
+   * @param maximumSize the maximum number of unknown values to hold. Must be positive.
+   * @return an empty cache
+   * @param <T> type of the enum
+   * @param <U> type of the unknown value
+   */
+  public static <T extends Enum<T>, U> UnknownValueCache<T, U> withMaximumSize(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    return new UnknownValueCache<>(maximumSize);
+  }
+
+  /**
+   * Get the shared OpenEnum for an unknown value.
+   *
+   * <p>If an equal unknown value is already cached, the cached instance is returned. Otherwise a
+   * new instance is created with {@link OpenEnum#fromUnknown} and cached.
+   *
+   * @param unknownValue the unknown value. May be null.
+   * @return an {@code OpenEnum} containing an unknown value equal to {@code unknownValue}
+   */
+  public OpenEnum<T, U> intern(U unknownValue) {
+    return intern(unknownValue, null);
+  }
+
+  /**
+   * Get the shared OpenEnum for an unknown value, recording whether it was cached.
+   *
+   * @param unknownValue the unknown value. May be null.
+   * @param stats the statistics of the resolver looking up the value, or null if it doesn't record
+   *     them
+   * @return an {@code OpenEnum} containing an unknown value equal to {@code unknownValue}
+   */
+  OpenEnum<T, U> intern(U unknownValue, ResolverStatsRecorder stats) {
+    int hash = Objects.hashCode(unknownValue);
+    Segment<T, U> segment = segments[(hash ^ (hash >>> 16)) & segmentMask];
+    synchronized (segment) {
+      OpenEnum<T, U> cached = segment.get(unknownValue);
+      if (stats != null) {
+        stats.recordCacheLookup(cached != null);
+      }
+      if (cached != null) {
+        hits.increment();
+        return cached;
+      }
+      misses.increment();
+      OpenEnum<T, U> created = OpenEnum.fromUnknown(unknownValue);
+      segment.put(unknownValue, created);
+      return created;
+    }
+  }
+
+  /**
+   * Get the number of calls to {@link #intern} that returned a cached instance.
+   *
+   * @return the number of cache hits
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of calls to {@link #intern} that had to create a new instance.
+   *
+   * @return the number of cache misses
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the number of unknown values currently cached.
+   *
+   * @return the number of cached unknown values
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<T, U> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  private static final class Segment<T extends Enum<T>, U>
+      extends LinkedHashMap<U, OpenEnum<T, U>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maximumSize;
+
+    Segment(int maximumSize) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<U, OpenEnum<T, U>> eldest) {
+      return size() > maximumSize;
+    }
+  }
+}
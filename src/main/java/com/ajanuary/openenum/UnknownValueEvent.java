@@ -0,0 +1,33 @@
+package com.ajanuary.openenum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a value that a resolver couldn't match to a constant.
+ *
+ * <p>Events are emitted by {@link JfrUnknownValueListener}. Stack traces are off by default, as
+ * they are expensive to record; they can be turned on with the {@code stackTrace} setting of the
+ * event, e.g. {@code jfr configure com.ajanuary.openenum.UnknownValue#stackTrace=true}, or {@code
+ * recording.enable(UnknownValueEvent.class).withStackTrace()}.
+ */
+@Name("com.ajanuary.openenum.UnknownValue")
+@Label("Unknown Enum Value")
+@Description("A value that didn't match any constant of an enum")
+@Category("OpenEnum")
+@StackTrace(false)
+public final class UnknownValueEvent extends Event {
+  @Label("Enum Class")
+  Class<?> enumClass;
+
+  @Label("Unknown Value")
+  String unknownValue;
+
+  @Label("Suppressed Count")
+  @Description("Unknown values that weren't recorded since the previous event, due to throttling")
+  long suppressedCount;
+}
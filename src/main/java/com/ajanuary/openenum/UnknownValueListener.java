@@ -0,0 +1,36 @@
+package com.ajanuary.openenum;
+
+/**
+ * Notified each time a resolver resolves a value that doesn't match any constant.
+ *
+ * <p>Listeners are called on the thread doing the resolving, only on the unknown-value path, so
+ * resolving a known value costs nothing extra. They should be fast and must not throw.
+ *
+ * @see UnknownValueTelemetry
+ */
+@FunctionalInterface
+public interface UnknownValueListener {
+  /**
+   * Called when a resolver resolves an unknown value.
+   *
+   * @param enumType the class of the enum the resolver resolves to
+   * @param unknownValue the unknown value. May be null.
+   */
+  void onUnknownValue(Class<?> enumType, Object unknownValue);
+
+  /**
+   * Create a listener that notifies this listener, and then another.
+   *
+   * @param after the listener to notify after this one
+   * @return a listener that notifies both listeners
+   */
+  default UnknownValueListener andThen(UnknownValueListener after) {
+    if (after == null) {
+      throw new IllegalArgumentException("after cannot be null");
+    }
+    return (enumType, unknownValue) -> {
+      onUnknownValue(enumType, unknownValue);
+      after.onUnknownValue(enumType, unknownValue);
+    };
+  }
+}
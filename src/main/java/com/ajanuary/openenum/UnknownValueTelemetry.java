@@ -0,0 +1,296 @@
+package com.ajanuary.openenum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts unknown values by enum type, and tracks the most frequent unknown values of each type.
+ *
+ * <p>Register an instance as the {@link UnknownValueListener} of one or more resolvers, and
+ * periodically read a {@link #snapshot} into a metrics system:
+ *
+ * <pre>{@code
+ * UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(20);
+ * OpenEnumResolver<AccountType> resolver =
+ *     OpenEnumResolver.builder(AccountType.class).listener(telemetry).build();
+ * }</pre>
+ *
+ * <p>Counts are kept in {@link LongAdder}s, so threads recording the same unknown value don't
+ * contend. The number of distinct values tracked for each enum is bounded, using the Space-Saving
+ * algorithm: when a new value arrives and every slot is taken, it replaces the value with the
+ * smallest count and inherits that count. Each tracked count overestimates the true count by at
+ * most its {@link ValueCount#maximumError}.
+ *
+ * <p>So that a new value costs the same however many values are tracked, and takes no lock, the
+ * value to replace is the one with the smallest count among {@value #SAMPLES} randomly sampled
+ * slots. With {@code trackedValues} of at most {@value #SAMPLES} every slot is sampled, and a value
+ * that occurs more often than {@code 1 / trackedValues} of the time is always tracked; with more,
+ * such a value is only replaced if every other sampled value is at least as frequent. Increments
+ * that race with the eviction of their value may be lost, so counts of tracked values are
+ * approximate, but the total count of each enum is exact.
+ */
+public final class UnknownValueTelemetry implements UnknownValueListener {
+  private static final Object NULL = new Object();
+  private static final int SAMPLES = 8;
+
+  private final int trackedValues;
+  private final Map<Class<?>, TypeCounters> countersByType = new ConcurrentHashMap<>();
+
+  private UnknownValueTelemetry(int trackedValues) {
+    this.trackedValues = trackedValues;
+  }
+
+  /**
+   * Create telemetry that tracks at most the given number of distinct unknown values per enum.
+   *
+   * @param trackedValues the maximum number of distinct unknown values to track for each enum. Must
+   *     be positive.
+   * @return telemetry with no counts
+   */
+  public static UnknownValueTelemetry withTrackedValues(int trackedValues) {
+    if (trackedValues <= 0) {
+      throw new IllegalArgumentException("trackedValues must be positive");
+    }
+    return new UnknownValueTelemetry(trackedValues);
+  }
+
+  @Override
+  public void onUnknownValue(Class<?> enumType, Object unknownValue) {
+    TypeCounters counters = countersByType.get(enumType);
+    if (counters == null) {
+      counters = countersByType.computeIfAbsent(enumType, type -> new TypeCounters(trackedValues));
+    }
+    counters.add(unknownValue == null ? NULL : unknownValue);
+  }
+
+  /**
+   * Get a snapshot of the counts for every enum that has had an unknown value.
+   *
+   * @return a snapshot per enum, ordered by the name of the enum class
+   */
+  public List<Snapshot> snapshot() {
+    List<Snapshot> snapshots = new ArrayList<>();
+    for (Map.Entry<Class<?>, TypeCounters> entry : countersByType.entrySet()) {
+      snapshots.add(entry.getValue().snapshot(entry.getKey()));
+    }
+    snapshots.sort(Comparator.comparing(snapshot -> snapshot.getEnumType().getName()));
+    return Collections.unmodifiableList(snapshots);
+  }
+
+  /**
+   * Get a snapshot of the counts for an enum.
+   *
+   * @param enumType the class of the enum
+   * @return a snapshot of the counts for {@code enumType}, which is empty if it hasn't had an
+   *     unknown value
+   */
+  public Snapshot snapshot(Class<?> enumType) {
+    TypeCounters counters = countersByType.get(enumType);
+    if (counters == null) {
+      return new Snapshot(enumType, 0, List.of());
+    }
+    return counters.snapshot(enumType);
+  }
+
+  /** The counts of unknown values for an enum, at a point in time. */
+  public static final class Snapshot {
+    private final Class<?> enumType;
+    private final long totalCount;
+    private final List<ValueCount> topValues;
+
+    Snapshot(Class<?> enumType, long totalCount, List<ValueCount> topValues) {
+      this.enumType = enumType;
+      this.totalCount = totalCount;
+      this.topValues = topValues;
+    }
+
+    /**
+     * Get the class of the enum.
+     *
+     * @return the class of the enum
+     */
+    public Class<?> getEnumType() {
+      return enumType;
+    }
+
+    /**
+     * Get the number of unknown values recorded for the enum.
+     *
+     * @return the number of unknown values
+     */
+    public long totalCount() {
+      return totalCount;
+    }
+
+    /**
+     * Get the tracked unknown values and their counts.
+     *
+     * @return the tracked unknown values, most frequent first
+     */
+    public List<ValueCount> topValues() {
+      return topValues;
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot{"
+          + "enumType="
+          + enumType.getName()
+          + ", totalCount="
+          + totalCount
+          + ", topValues="
+          + topValues
+          + '}';
+    }
+  }
+
+  /** An unknown value and its approximate count. */
+  public static final class ValueCount {
+    private final Object value;
+    private final long count;
+    private final long maximumError;
+
+    ValueCount(Object value, long count, long maximumError) {
+      this.value = value;
+      this.count = count;
+      this.maximumError = maximumError;
+    }
+
+    /**
+     * Get the unknown value.
+     *
+     * @return the unknown value. May be null.
+     */
+    public Object value() {
+      return value;
+    }
+
+    /**
+     * Get the count of the unknown value.
+     *
+     * @return the count of the unknown value, which may overestimate it by up to {@link
+     *     #maximumError}
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * Get the most that {@link #count} may overestimate the count of the unknown value by.
+     *
+     * @return the maximum error of the count, which is 0 if the value has been tracked since it
+     *     first occurred
+     */
+    public long maximumError() {
+      return maximumError;
+    }
+
+    @Override
+    public String toString() {
+      return value + "=" + count;
+    }
+  }
+
+  private static final class TypeCounters {
+    private final int trackedValues;
+    private final LongAdder total = new LongAdder();
+    private final Map<Object, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Counter> slots;
+    private final AtomicInteger filledSlots = new AtomicInteger();
+
+    TypeCounters(int trackedValues) {
+      this.trackedValues = trackedValues;
+      this.slots = new AtomicReferenceArray<>(trackedValues);
+    }
+
+    void add(Object key) {
+      total.increment();
+      Counter counter = counters.get(key);
+      if (counter == null) {
+        counter = track(key);
+      }
+      counter.count.increment();
+    }
+
+    private Counter track(Object key) {
+      Counter counter = new Counter(key);
+      Counter existing = counters.putIfAbsent(key, counter);
+      if (existing != null) {
+        return existing;
+      }
+      int slot;
+      do {
+        slot = filledSlots.get();
+      } while (slot < trackedValues && !filledSlots.compareAndSet(slot, slot + 1));
+      if (slot < trackedValues) {
+        slots.set(slot, counter);
+        return counter;
+      }
+      while (true) {
+        int victimSlot = sampleSmallest();
+        Counter victim = victimSlot < 0 ? null : slots.get(victimSlot);
+        if (victim != null && slots.compareAndSet(victimSlot, victim, counter)) {
+          counter.error = victim.estimate();
+          counters.remove(victim.key, victim);
+          return counter;
+        }
+      }
+    }
+
+    /**
+     * Find the slot holding the smallest count among a sample of the slots. Every slot is
+     * considered if there are no more than {@value #SAMPLES}.
+     */
+    private int sampleSmallest() {
+      int smallestSlot = -1;
+      long smallestEstimate = Long.MAX_VALUE;
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int samples = Math.min(SAMPLES, trackedValues);
+      for (int i = 0; i < samples; i++) {
+        int slot = trackedValues <= SAMPLES ? i : random.nextInt(trackedValues);
+        Counter counter = slots.get(slot);
+        if (counter != null) {
+          long estimate = counter.estimate();
+          if (estimate < smallestEstimate) {
+            smallestSlot = slot;
+            smallestEstimate = estimate;
+          }
+        }
+      }
+      return smallestSlot;
+    }
+
+    Snapshot snapshot(Class<?> enumType) {
+      List<ValueCount> topValues = new ArrayList<>();
+      for (Map.Entry<Object, Counter> entry : counters.entrySet()) {
+        Object value = entry.getKey() == NULL ? null : entry.getKey();
+        Counter counter = entry.getValue();
+        topValues.add(new ValueCount(value, counter.estimate(), counter.error));
+      }
+      topValues.sort(Comparator.comparingLong(ValueCount::count).reversed());
+      return new Snapshot(enumType, total.sum(), Collections.unmodifiableList(topValues));
+    }
+  }
+
+  private static final class Counter {
+    private final Object key;
+    private final LongAdder count = new LongAdder();
+    private volatile long error;
+
+    Counter(Object key) {
+      this.key = key;
+    }
+
+    long estimate() {
+      return error + count.sum();
+    }
+  }
+}
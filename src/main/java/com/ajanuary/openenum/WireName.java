@@ -0,0 +1,34 @@
+package com.ajanuary.openenum;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the names an enum constant is known by on the wire.
+ *
+ * <p>{@link OpenEnumResolver} resolves each of the given names to the annotated constant, instead
+ * of the constant's own name. The first name is the one returned by {@link
+ * OpenEnumResolver#wireName}; any others are aliases that are only used when resolving.
+ *
+ * <pre>{@code
+ * enum AccountType {
+ *   @WireName({"enterprise-plus", "enterprise_plus"})
+ *   EnterprisePlus,
+ *   ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface WireName {
+  /**
+   * The names of the constant. The first is the canonical name, and the rest are aliases.
+   *
+   * @return the names of the constant
+   */
+  String[] value();
+}
@@ -0,0 +1,52 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class HyperLogLogTest {
+  @Test
+  void estimates_zero_when_empty() {
+    HyperLogLog hyperLogLog = new HyperLogLog();
+
+    assertEquals(0, hyperLogLog.estimate());
+  }
+
+  @Test
+  void estimates_small_cardinalities_closely() {
+    HyperLogLog hyperLogLog = new HyperLogLog();
+    for (int i = 0; i < 100; i++) {
+      hyperLogLog.add("value" + i);
+    }
+
+    assertEquals(100, hyperLogLog.estimate(), 5);
+  }
+
+  @Test
+  void ignores_repeated_values() {
+    HyperLogLog hyperLogLog = new HyperLogLog();
+    for (int i = 0; i < 10_000; i++) {
+      hyperLogLog.add("value" + (i % 10));
+    }
+
+    assertEquals(10, hyperLogLog.estimate());
+  }
+
+  @Test
+  void estimates_large_cardinalities_within_a_few_percent() {
+    HyperLogLog hyperLogLog = new HyperLogLog();
+    for (int i = 0; i < 100_000; i++) {
+      hyperLogLog.add("value" + i);
+    }
+
+    assertEquals(100_000, hyperLogLog.estimate(), 10_000);
+  }
+
+  @Test
+  void counts_null() {
+    HyperLogLog hyperLogLog = new HyperLogLog();
+    hyperLogLog.add(null);
+
+    assertEquals(1, hyperLogLog.estimate());
+  }
+}
@@ -0,0 +1,123 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+public class JfrUnknownValueListenerTest {
+  enum TestEnum {
+    SomeValue
+  }
+
+  @Test
+  void emits_event_for_unknown_value() throws IOException {
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).listener(JfrUnknownValueListener.create()).build();
+
+    List<RecordedEvent> events =
+        record(
+            false,
+            () -> {
+              resolver.resolve("SomeValue");
+              resolver.resolve("unknown");
+            });
+
+    assertEquals(1, events.size());
+    assertEquals(TestEnum.class.getName(), events.get(0).getClass("enumClass").getName());
+    assertEquals("unknown", events.get(0).getString("unknownValue"));
+    assertEquals(0, events.get(0).getLong("suppressedCount"));
+    assertNull(events.get(0).getStackTrace());
+  }
+
+  @Test
+  void records_stack_trace_when_enabled() throws IOException {
+    UnknownValueListener listener = JfrUnknownValueListener.create();
+
+    List<RecordedEvent> events = record(true, () -> listener.onUnknownValue(TestEnum.class, null));
+
+    assertEquals("null", events.get(0).getString("unknownValue"));
+    assertNotNull(events.get(0).getStackTrace());
+  }
+
+  @Test
+  void throttled_listener_counts_suppressed_values() throws IOException {
+    AtomicLong nanoTime = new AtomicLong();
+    UnknownValueListener listener = JfrUnknownValueListener.throttled(2, nanoTime::get);
+
+    List<RecordedEvent> events =
+        record(
+            false,
+            () -> {
+              for (int i = 0; i < 10; i++) {
+                listener.onUnknownValue(TestEnum.class, i);
+              }
+              nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+              listener.onUnknownValue(TestEnum.class, 10);
+            });
+
+    assertEquals(3, events.size());
+    assertEquals("0", events.get(0).getString("unknownValue"));
+    assertEquals(0, events.get(0).getLong("suppressedCount"));
+    assertEquals("1", events.get(1).getString("unknownValue"));
+    assertEquals(0, events.get(1).getLong("suppressedCount"));
+    assertEquals("10", events.get(2).getString("unknownValue"));
+    assertEquals(8, events.get(2).getLong("suppressedCount"));
+  }
+
+  @Test
+  void does_not_count_values_when_not_recording() throws IOException {
+    AtomicLong nanoTime = new AtomicLong();
+    UnknownValueListener listener = JfrUnknownValueListener.throttled(1, nanoTime::get);
+    for (int i = 0; i < 10; i++) {
+      listener.onUnknownValue(TestEnum.class, i);
+    }
+
+    List<RecordedEvent> events = record(false, () -> listener.onUnknownValue(TestEnum.class, 10));
+
+    assertEquals(1, events.size());
+    assertEquals(0, events.get(0).getLong("suppressedCount"));
+  }
+
+  @Test
+  void does_nothing_when_not_recording() {
+    UnknownValueListener listener = JfrUnknownValueListener.throttled(1);
+
+    listener.onUnknownValue(TestEnum.class, "unknown");
+  }
+
+  @Test
+  void max_events_per_second_must_be_positive() {
+    assertThrows(IllegalArgumentException.class, () -> JfrUnknownValueListener.throttled(0));
+  }
+
+  private static List<RecordedEvent> record(boolean stackTrace, Runnable runnable)
+      throws IOException {
+    Path file = Files.createTempFile("openenum", ".jfr");
+    try (Recording recording = new Recording()) {
+      if (stackTrace) {
+        recording.enable(UnknownValueEvent.class).withStackTrace();
+      } else {
+        recording.enable(UnknownValueEvent.class);
+      }
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
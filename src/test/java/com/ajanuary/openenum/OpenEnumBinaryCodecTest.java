@@ -0,0 +1,341 @@
+package com.ajanuary.openenum;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumBinaryCodecTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue
+  }
+
+  enum NewerTestEnum {
+    SomeValue,
+    OtherValue,
+    NewValue
+  }
+
+  enum ReorderedTestEnum {
+    OtherValue,
+    SomeValue
+  }
+
+  enum IdEnum {
+    @OpenEnumId(5)
+    SomeValue,
+    @OpenEnumId(200)
+    OtherValue
+  }
+
+  enum ReorderedIdEnum {
+    @OpenEnumId(200)
+    OtherValue,
+    @OpenEnumId(5)
+    SomeValue
+  }
+
+  enum NewerIdEnum {
+    @OpenEnumId(7)
+    NewValue,
+    @OpenEnumId(200)
+    OtherValue,
+    @OpenEnumId(5)
+    SomeValue
+  }
+
+  @Test
+  void writes_enum_value_as_ordinal_plus_one() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    codec(TestEnum.class).write(OpenEnum.fromEnum(TestEnum.OtherValue), buffer);
+
+    assertArrayEquals(new byte[] {2}, written(buffer));
+  }
+
+  @Test
+  void writes_unknown_value_as_tag_and_payload() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    codec(TestEnum.class).write(OpenEnum.fromUnknown("ab"), buffer);
+
+    assertArrayEquals(new byte[] {0, 2, 'a', 'b'}, written(buffer));
+  }
+
+  @Test
+  void reads_enum_value_as_canonical_instance() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec.write(OpenEnum.fromEnum(TestEnum.SomeValue), buffer);
+
+    OpenEnum<TestEnum, String> openEnum = codec.read(buffer.flip());
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), openEnum);
+  }
+
+  @Test
+  void round_trips_unknown_value() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec.write(OpenEnum.fromUnknown("unknown"), buffer);
+
+    OpenEnum<TestEnum, String> openEnum = codec.read(buffer.flip());
+
+    assertEquals(OpenEnum.fromUnknown("unknown"), openEnum);
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void round_trips_through_data_streams() throws IOException {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    codec.writeFingerprint(out);
+    codec.write(OpenEnum.fromEnum(TestEnum.OtherValue), out);
+    codec.write(OpenEnum.fromUnknown("unknown"), out);
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertTrue(codec.readFingerprint(in));
+    assertSame(OpenEnum.fromEnum(TestEnum.OtherValue), codec.read(in));
+    assertEquals(OpenEnum.fromUnknown("unknown"), codec.read(in));
+  }
+
+  @Test
+  void writes_large_payload_length_as_multi_byte_varint() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    String unknownValue = "x".repeat(300);
+    ByteBuffer buffer = ByteBuffer.allocate(512);
+    codec.write(OpenEnum.fromUnknown(unknownValue), buffer);
+
+    buffer.flip();
+
+    assertEquals(303, buffer.remaining());
+    assertEquals(OpenEnum.fromUnknown(unknownValue), codec.read(buffer));
+  }
+
+  @Test
+  void reads_values_written_with_fewer_constants() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec(TestEnum.class).write(OpenEnum.fromEnum(TestEnum.OtherValue), buffer);
+
+    OpenEnum<NewerTestEnum, String> openEnum = codec(NewerTestEnum.class).read(buffer.flip());
+
+    assertSame(OpenEnum.fromEnum(NewerTestEnum.OtherValue), openEnum);
+  }
+
+  @Test
+  void reads_unrecognized_ordinal_as_unknown_value() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec(NewerTestEnum.class).write(OpenEnum.fromEnum(NewerTestEnum.NewValue), buffer);
+
+    OpenEnum<TestEnum, String> openEnum = codec(TestEnum.class).read(buffer.flip());
+
+    assertEquals(OpenEnum.fromUnknown("#2"), openEnum);
+  }
+
+  @Test
+  void fingerprint_detects_changed_constants() {
+    int fingerprint = codec(TestEnum.class).fingerprint();
+
+    assertEquals(fingerprint, codec(TestEnum.class).fingerprint());
+    assertNotEquals(fingerprint, codec(NewerTestEnum.class).fingerprint());
+    assertNotEquals(fingerprint, codec(ReorderedTestEnum.class).fingerprint());
+  }
+
+  @Test
+  void read_fingerprint_compares_with_own() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec(TestEnum.class).writeFingerprint(buffer);
+
+    buffer.flip();
+
+    assertFalse(codec(ReorderedTestEnum.class).readFingerprint(buffer.duplicate()));
+    assertTrue(codec(TestEnum.class).readFingerprint(buffer));
+  }
+
+  @Test
+  void writes_enum_value_as_id_plus_one() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    idCodec(IdEnum.class).write(OpenEnum.fromEnum(IdEnum.OtherValue), buffer);
+
+    assertArrayEquals(new byte[] {(byte) 0xc9, 0x01}, written(buffer));
+  }
+
+  @Test
+  void reads_ids_written_with_reordered_constants() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    idCodec(IdEnum.class).write(OpenEnum.fromEnum(IdEnum.SomeValue), buffer);
+
+    OpenEnum<NewerIdEnum, String> openEnum = idCodec(NewerIdEnum.class).read(buffer.flip());
+
+    assertSame(OpenEnum.fromEnum(NewerIdEnum.SomeValue), openEnum);
+  }
+
+  @Test
+  void reads_unrecognized_id_as_unknown_value() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    idCodec(NewerIdEnum.class).write(OpenEnum.fromEnum(NewerIdEnum.NewValue), buffer);
+
+    OpenEnum<IdEnum, String> openEnum = idCodec(IdEnum.class).read(buffer.flip());
+
+    assertEquals(OpenEnum.fromUnknown("#7"), openEnum);
+  }
+
+  @Test
+  void reading_unrecognized_id_does_not_notify_listener_of_ids() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenEnumBinaryCodec<IdEnum, String> codec =
+        OpenEnumBinaryCodec.<IdEnum, String>builder(IdEnum.class)
+            .payload(u -> u.getBytes(UTF_8), p -> new String(p, UTF_8))
+            .unrecognized(id -> "#" + id)
+            .ids(
+                OpenIntEnumResolver.builder(IdEnum.class)
+                    .code(IdEnum.SomeValue, 5)
+                    .code(IdEnum.OtherValue, 200)
+                    .listener(telemetry)
+                    .build())
+            .build();
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    idCodec(NewerIdEnum.class).write(OpenEnum.fromEnum(NewerIdEnum.NewValue), buffer);
+
+    OpenEnum<IdEnum, String> openEnum = codec.read(buffer.flip());
+
+    assertEquals(OpenEnum.fromUnknown("#7"), openEnum);
+    assertEquals(0, telemetry.snapshot(IdEnum.class).totalCount());
+  }
+
+  @Test
+  void fingerprint_with_ids_ignores_order_of_constants() {
+    int fingerprint = idCodec(IdEnum.class).fingerprint();
+
+    assertEquals(fingerprint, idCodec(ReorderedIdEnum.class).fingerprint());
+    assertNotEquals(fingerprint, idCodec(NewerIdEnum.class).fingerprint());
+    assertNotEquals(fingerprint, codec(IdEnum.class).fingerprint());
+  }
+
+  @Test
+  void ids_must_not_be_negative() {
+    OpenIntEnumResolver<TestEnum> ids =
+        OpenIntEnumResolver.builder(TestEnum.class)
+            .code(TestEnum.SomeValue, -1)
+            .code(TestEnum.OtherValue, 1)
+            .build();
+    OpenEnumBinaryCodec.Builder<TestEnum, String> builder =
+        OpenEnumBinaryCodec.builder(TestEnum.class);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.ids(ids));
+  }
+
+  @Test
+  void reading_rejects_overlong_varint() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, 0x0f});
+
+    assertThrows(IllegalArgumentException.class, () -> codec.read(buffer));
+  }
+
+  @Test
+  void reading_rejects_truncated_payload() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    byte[] bytes = {0, 5, 'a', 'b'};
+
+    assertThrows(BufferUnderflowException.class, () -> codec.read(ByteBuffer.wrap(bytes)));
+    assertThrows(EOFException.class, () -> codec.read(dataInput(bytes)));
+  }
+
+  @Test
+  void reading_rejects_negative_payload_length() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    byte[] bytes = {0, -1, -1, -1, -1, 0x0f};
+
+    assertThrows(IllegalArgumentException.class, () -> codec.read(ByteBuffer.wrap(bytes)));
+    assertThrows(IllegalArgumentException.class, () -> codec.read(dataInput(bytes)));
+  }
+
+  @Test
+  void reading_rejects_oversized_payload_length_without_allocating_it() {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    byte[] bytes = {0, -1, -1, -1, -1, 0x07};
+
+    assertThrows(BufferUnderflowException.class, () -> codec.read(ByteBuffer.wrap(bytes)));
+    assertThrows(EOFException.class, () -> codec.read(dataInput(bytes)));
+  }
+
+  @Test
+  void reads_payload_longer_than_a_chunk_from_data_input() throws IOException {
+    OpenEnumBinaryCodec<TestEnum, String> codec = codec(TestEnum.class);
+    String unknownValue = "x".repeat(20_000);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    codec.write(OpenEnum.fromUnknown(unknownValue), new DataOutputStream(bytes));
+
+    OpenEnum<TestEnum, String> openEnum = codec.read(dataInput(bytes.toByteArray()));
+
+    assertEquals(OpenEnum.fromUnknown(unknownValue), openEnum);
+  }
+
+  @Test
+  void builder_requires_payload() {
+    OpenEnumBinaryCodec.Builder<TestEnum, String> builder =
+        OpenEnumBinaryCodec.<TestEnum, String>builder(TestEnum.class)
+            .unrecognized(ordinal -> "#" + ordinal);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void builder_requires_unrecognized() {
+    OpenEnumBinaryCodec.Builder<TestEnum, String> builder =
+        OpenEnumBinaryCodec.<TestEnum, String>builder(TestEnum.class)
+            .payload(u -> u.getBytes(UTF_8), p -> new String(p, UTF_8));
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void enum_type_must_be_an_enum() {
+    assertThrows(IllegalArgumentException.class, () -> OpenEnumBinaryCodec.builder(null));
+  }
+
+  private static <T extends Enum<T>> OpenEnumBinaryCodec<T, String> codec(Class<T> enumType) {
+    return OpenEnumBinaryCodec.<T, String>builder(enumType)
+        .payload(u -> u.getBytes(UTF_8), p -> new String(p, UTF_8))
+        .unrecognized(ordinal -> "#" + ordinal)
+        .build();
+  }
+
+  private static <T extends Enum<T>> OpenEnumBinaryCodec<T, String> idCodec(Class<T> enumType) {
+    return OpenEnumBinaryCodec.<T, String>builder(enumType)
+        .payload(u -> u.getBytes(UTF_8), p -> new String(p, UTF_8))
+        .unrecognized(id -> "#" + id)
+        .ids(OpenIntEnumResolver.ofAnnotated(enumType))
+        .build();
+  }
+
+  private static DataInputStream dataInput(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  private static byte[] written(ByteBuffer buffer) {
+    buffer.flip();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,143 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumCollectorsTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue,
+    UnusedValue
+  }
+
+  static final class Row {
+    private final OpenEnum<TestEnum, String> type;
+    private final int id;
+
+    Row(OpenEnum<TestEnum, String> type, int id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    OpenEnum<TestEnum, String> type() {
+      return type;
+    }
+
+    int id() {
+      return id;
+    }
+  }
+
+  private static final OpenEnum<TestEnum, String> SOME = OpenEnum.fromEnum(TestEnum.SomeValue);
+  private static final OpenEnum<TestEnum, String> OTHER = OpenEnum.fromEnum(TestEnum.OtherValue);
+
+  @Test
+  void counts_occurrences_of_each_value() {
+    OpenEnumMap<TestEnum, String, Long> counts =
+        Stream.of(SOME, OTHER, SOME, OpenEnum.<TestEnum, String>fromUnknown("unknown"))
+            .collect(OpenEnumCollectors.counting(TestEnum.class));
+
+    assertEquals(3, counts.size());
+    assertEquals(2L, counts.get(TestEnum.SomeValue));
+    assertEquals(1L, counts.get(TestEnum.OtherValue));
+    assertEquals(1L, counts.get(OpenEnum.fromUnknown("unknown")));
+    assertFalse(counts.containsKey(TestEnum.UnusedValue));
+  }
+
+  @Test
+  void counts_elements_by_key() {
+    OpenEnumMap<TestEnum, String, Long> counts =
+        Stream.of(new Row(SOME, 1), new Row(OTHER, 2), new Row(SOME, 3))
+            .collect(OpenEnumCollectors.counting(TestEnum.class, Row::type));
+
+    assertEquals(Map.of(SOME, 2L, OTHER, 1L), counts);
+  }
+
+  @Test
+  void counts_in_parallel_like_grouping_by() {
+    List<Row> rows = rows(100_000);
+
+    OpenEnumMap<TestEnum, String, Long> counts =
+        rows.parallelStream().collect(OpenEnumCollectors.counting(TestEnum.class, Row::type));
+
+    assertEquals(
+        rows.stream().collect(Collectors.groupingBy(Row::type, Collectors.counting())), counts);
+  }
+
+  @Test
+  void groups_elements_into_lists_in_encounter_order() {
+    List<Row> rows = rows(10_000);
+
+    OpenEnumMap<TestEnum, String, List<Row>> groups =
+        rows.parallelStream().collect(OpenEnumCollectors.groupingBy(TestEnum.class, Row::type));
+
+    assertEquals(rows.stream().collect(Collectors.groupingBy(Row::type)), groups);
+  }
+
+  @Test
+  void reduces_groups_with_downstream_collector() {
+    OpenEnumMap<TestEnum, String, Integer> sums =
+        Stream.of(
+                new Row(SOME, 1),
+                new Row(OpenEnum.fromUnknown("unknown"), 2),
+                new Row(SOME, 3),
+                new Row(OpenEnum.fromUnknown("unknown"), 4))
+            .collect(
+                OpenEnumCollectors.groupingBy(
+                    TestEnum.class, Row::type, Collectors.summingInt(Row::id)));
+
+    assertEquals(Map.of(SOME, 4, OpenEnum.fromUnknown("unknown"), 6), sums);
+  }
+
+  @Test
+  void partitions_by_known() {
+    Map<Boolean, List<OpenEnum<TestEnum, String>>> partitions =
+        Stream.of(SOME, OpenEnum.<TestEnum, String>fromUnknown("unknown"), OTHER)
+            .collect(OpenEnumCollectors.partitioningByKnown());
+
+    assertEquals(List.of(SOME, OTHER), partitions.get(true));
+    assertEquals(List.of(OpenEnum.fromUnknown("unknown")), partitions.get(false));
+  }
+
+  @Test
+  void partitions_elements_by_known_key() {
+    Map<Boolean, Long> partitions =
+        rows(1_000).parallelStream()
+            .collect(OpenEnumCollectors.partitioningByKnown(Row::type, Collectors.counting()));
+
+    assertEquals(750L, partitions.get(true));
+    assertEquals(250L, partitions.get(false));
+  }
+
+  @Test
+  void classifier_must_not_return_null() {
+    Stream<Row> rows = Stream.of(new Row(null, 1));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> rows.collect(OpenEnumCollectors.counting(TestEnum.class, Row::type)));
+  }
+
+  @Test
+  void enum_type_must_be_an_enum() {
+    assertThrows(IllegalArgumentException.class, () -> OpenEnumCollectors.counting(null));
+  }
+
+  private static List<Row> rows(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new Row(i % 4 == 3 ? unknown(i) : i % 4 == 1 ? OTHER : SOME, i))
+        .collect(Collectors.toList());
+  }
+
+  private static OpenEnum<TestEnum, String> unknown(int i) {
+    return OpenEnum.fromUnknown("unknown" + i % 10);
+  }
+}
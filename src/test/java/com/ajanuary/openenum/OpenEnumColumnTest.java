@@ -0,0 +1,129 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumColumnTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue,
+    ThirdValue
+  }
+
+  @Test
+  void gets_rows_in_order() {
+    OpenEnumColumn<TestEnum, String> column =
+        OpenEnumColumn.<TestEnum, String>builder(TestEnum.class)
+            .add(TestEnum.OtherValue)
+            .add(OpenEnum.fromUnknown("unknown"))
+            .add(OpenEnum.fromEnum(TestEnum.SomeValue))
+            .build();
+
+    assertEquals(3, column.size());
+    assertSame(OpenEnum.fromEnum(TestEnum.OtherValue), column.get(0));
+    assertEquals("unknown", column.get(1).getUnknownValue());
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), column.get(2));
+  }
+
+  @Test
+  void equal_unknown_values_share_an_instance() {
+    OpenEnum<TestEnum, String> unknown = OpenEnum.fromUnknown("unknown");
+    OpenEnumColumn<TestEnum, String> column =
+        OpenEnumColumn.<TestEnum, String>builder(TestEnum.class)
+            .add(unknown)
+            .add(OpenEnum.fromUnknown("unknown"))
+            .add(OpenEnum.fromUnknown(null))
+            .add(OpenEnum.fromUnknown(null))
+            .build();
+
+    assertSame(unknown, column.get(1));
+    assertSame(column.get(2), column.get(3));
+    assertEquals(2, column.unknownValueCount());
+  }
+
+  @Test
+  void get_out_of_bounds_throws() {
+    OpenEnumColumn<TestEnum, String> column =
+        OpenEnumColumn.<TestEnum, String>builder(TestEnum.class).add(TestEnum.SomeValue).build();
+
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(-1));
+  }
+
+  @Test
+  void counts_rows_by_constant() {
+    OpenEnumColumn<TestEnum, String> column =
+        OpenEnumColumn.<TestEnum, String>builder(TestEnum.class)
+            .add(TestEnum.ThirdValue)
+            .add(TestEnum.SomeValue)
+            .add(OpenEnum.fromUnknown("unknown"))
+            .add(TestEnum.ThirdValue)
+            .add(OpenEnum.fromUnknown("other"))
+            .build();
+
+    assertArrayEquals(new int[] {1, 0, 2}, column.countByConstant());
+    assertEquals(2, column.countUnknown());
+  }
+
+  @Test
+  void filters_rows_by_constant() {
+    OpenEnumColumn.Builder<TestEnum, String> builder = OpenEnumColumn.builder(TestEnum.class);
+    BitSet expected = new BitSet();
+    for (int i = 0; i < 200; i++) {
+      if (i % 3 == 0) {
+        builder.add(TestEnum.OtherValue);
+        expected.set(i);
+      } else if (i % 3 == 1) {
+        builder.add(TestEnum.SomeValue);
+      } else {
+        builder.add(OpenEnum.fromUnknown("unknown" + i % 5));
+      }
+    }
+    OpenEnumColumn<TestEnum, String> column = builder.build();
+
+    BitSet rows = column.filter(EnumSet.of(TestEnum.OtherValue, TestEnum.ThirdValue));
+
+    assertEquals(expected, rows);
+  }
+
+  @Test
+  void empty_column_has_no_rows() {
+    OpenEnumColumn<TestEnum, String> column =
+        OpenEnumColumn.<TestEnum, String>builder(TestEnum.class).build();
+
+    assertEquals(0, column.size());
+    assertArrayEquals(new int[3], column.countByConstant());
+    assertEquals(new BitSet(), column.filter(EnumSet.allOf(TestEnum.class)));
+  }
+
+  @Test
+  void widens_codes_for_many_unknown_values() {
+    OpenEnumColumn.Builder<TestEnum, Integer> builder = OpenEnumColumn.builder(TestEnum.class);
+    int unknownCount = 70_000;
+    for (int i = 0; i < unknownCount; i++) {
+      builder.add(TestEnum.ThirdValue).add(OpenEnum.fromUnknown(i));
+    }
+
+    OpenEnumColumn<TestEnum, Integer> column = builder.build();
+
+    assertEquals(unknownCount, column.unknownValueCount());
+    assertSame(OpenEnum.fromEnum(TestEnum.ThirdValue), column.get(0));
+    assertEquals(0, column.get(1).getUnknownValue());
+    assertEquals(300, column.get(601).getUnknownValue());
+    assertEquals(unknownCount - 1, column.get(2 * unknownCount - 1).getUnknownValue());
+    assertArrayEquals(new int[] {0, 0, unknownCount}, column.countByConstant());
+    assertEquals(unknownCount, column.countUnknown());
+    assertEquals(unknownCount, column.filter(EnumSet.of(TestEnum.ThirdValue)).cardinality());
+  }
+
+  @Test
+  void enum_type_must_be_an_enum() {
+    assertThrows(IllegalArgumentException.class, () -> OpenEnumColumn.builder(null));
+  }
+}
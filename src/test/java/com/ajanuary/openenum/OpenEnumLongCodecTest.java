@@ -0,0 +1,125 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumLongCodecTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue
+  }
+
+  @Test
+  void packs_enum_value_as_ordinal() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+
+    long packed = codec.encode(OpenEnum.fromEnum(TestEnum.OtherValue));
+
+    assertEquals(1, packed);
+    assertEquals(packed, codec.encode(TestEnum.OtherValue));
+    assertTrue(OpenEnumLongCodec.isKnown(packed));
+    assertFalse(OpenEnumLongCodec.isUnknown(packed));
+    assertEquals(1, OpenEnumLongCodec.ordinal(packed));
+    assertEquals(-1, OpenEnumLongCodec.payload(packed));
+  }
+
+  @Test
+  void unpacks_enum_value_to_canonical_instance() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+
+    OpenEnum<TestEnum, String> openEnum = codec.decode(codec.encode(TestEnum.SomeValue));
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), openEnum);
+  }
+
+  @Test
+  void packs_unknown_values_as_dictionary_indexes() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+
+    long first = codec.encode(OpenEnum.fromUnknown("first"));
+    long second = codec.encode(OpenEnum.fromUnknown("second"));
+    long firstAgain = codec.encode(OpenEnum.fromUnknown("first"));
+
+    assertTrue(OpenEnumLongCodec.isUnknown(first));
+    assertEquals(-1, OpenEnumLongCodec.ordinal(first));
+    assertEquals(0, OpenEnumLongCodec.payload(first));
+    assertEquals(1, OpenEnumLongCodec.payload(second));
+    assertEquals(first, firstAgain);
+    assertEquals(2, codec.dictionarySize());
+  }
+
+  @Test
+  void unpacks_dictionary_unknown_values_to_shared_instance() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+    OpenEnum<TestEnum, String> unknown = OpenEnum.fromUnknown("unknown");
+
+    long packed = codec.encode(unknown);
+    codec.encode(OpenEnum.fromUnknown("unknown"));
+
+    assertSame(unknown, codec.decode(packed));
+  }
+
+  @Test
+  void dictionary_holds_null_unknown_value() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+
+    long packed = codec.encode(OpenEnum.fromUnknown(null));
+
+    assertNull(codec.decode(packed).getUnknownValue());
+  }
+
+  @Test
+  void dictionary_grows() {
+    OpenEnumLongCodec<TestEnum, Integer> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+    long[] packed = new long[100];
+
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = codec.encode(OpenEnum.fromUnknown(i));
+    }
+
+    for (int i = 0; i < packed.length; i++) {
+      assertEquals(i, codec.decode(packed[i]).getUnknownValue());
+    }
+  }
+
+  @Test
+  void packs_raw_unknown_values_into_payload() {
+    OpenEnumLongCodec<TestEnum, Integer> codec =
+        OpenEnumLongCodec.withRawUnknowns(TestEnum.class, u -> u & 0xffffffffL, p -> (int) p);
+
+    long packed = codec.encode(OpenEnum.fromUnknown(-7));
+
+    assertTrue(OpenEnumLongCodec.isUnknown(packed));
+    assertEquals(0xfffffff9L, OpenEnumLongCodec.payload(packed));
+    assertEquals(-7, codec.decode(packed).getUnknownValue());
+    assertEquals(0, codec.dictionarySize());
+  }
+
+  @Test
+  void raw_payloads_must_not_be_negative() {
+    OpenEnumLongCodec<TestEnum, Long> codec =
+        OpenEnumLongCodec.withRawUnknowns(TestEnum.class, u -> u, p -> p);
+
+    assertThrows(IllegalArgumentException.class, () -> codec.encode(OpenEnum.fromUnknown(-1L)));
+  }
+
+  @Test
+  void rejects_values_not_packed_by_codec() {
+    OpenEnumLongCodec<TestEnum, String> codec = OpenEnumLongCodec.withDictionary(TestEnum.class);
+
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(2));
+    assertThrows(
+        IllegalArgumentException.class, () -> codec.decode(OpenEnumLongCodec.UNKNOWN_TAG | 5));
+  }
+
+  @Test
+  void enum_type_must_be_an_enum() {
+    assertThrows(IllegalArgumentException.class, () -> OpenEnumLongCodec.withDictionary(null));
+  }
+}
@@ -0,0 +1,179 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumMapTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue,
+    ThirdValue
+  }
+
+  @Test
+  void new_map_is_empty() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+  }
+
+  @Test
+  void gets_values_put_for_enum_keys() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+
+    assertNull(map.put(OpenEnum.fromEnum(TestEnum.SomeValue), 1));
+    assertNull(map.put(TestEnum.OtherValue, 2));
+
+    assertEquals(1, map.get(TestEnum.SomeValue));
+    assertEquals(2, map.get(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertNull(map.get(TestEnum.ThirdValue));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void gets_values_put_for_unknown_keys() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+
+    assertNull(map.put(OpenEnum.fromUnknown("unknown"), 1));
+
+    assertEquals(1, map.get(OpenEnum.fromUnknown("unknown")));
+    assertNull(map.get(OpenEnum.fromUnknown("other")));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void put_replaces_existing_values() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(OpenEnum.fromUnknown("unknown"), 2);
+
+    assertEquals(1, map.put(TestEnum.SomeValue, 3));
+    assertEquals(2, map.put(OpenEnum.fromUnknown("unknown"), 4));
+
+    assertEquals(3, map.get(TestEnum.SomeValue));
+    assertEquals(4, map.get(OpenEnum.fromUnknown("unknown")));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void supports_null_values() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+
+    map.put(TestEnum.SomeValue, null);
+
+    assertTrue(map.containsKey(TestEnum.SomeValue));
+    assertTrue(map.containsKey(OpenEnum.fromEnum(TestEnum.SomeValue)));
+    assertNull(map.get(TestEnum.SomeValue));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void removes_values() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(TestEnum.OtherValue, 2);
+    map.put(OpenEnum.fromUnknown("unknown"), 3);
+
+    assertEquals(1, map.remove(TestEnum.SomeValue));
+    assertEquals(2, map.remove(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertEquals(3, map.remove(OpenEnum.fromUnknown("unknown")));
+    assertNull(map.remove(TestEnum.SomeValue));
+
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void iterates_enum_keys_in_ordinal_order_then_unknown_keys() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(OpenEnum.fromUnknown("unknown"), 1);
+    map.put(TestEnum.ThirdValue, 2);
+    map.put(TestEnum.SomeValue, 3);
+
+    List<Map.Entry<OpenEnum<TestEnum, String>, Integer>> entries = new ArrayList<>(map.entrySet());
+
+    assertEquals(3, entries.size());
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), entries.get(0).getKey());
+    assertEquals(3, entries.get(0).getValue());
+    assertSame(OpenEnum.fromEnum(TestEnum.ThirdValue), entries.get(1).getKey());
+    assertEquals(2, entries.get(1).getValue());
+    assertEquals("unknown", entries.get(2).getKey().getUnknownValue());
+    assertEquals(1, entries.get(2).getValue());
+  }
+
+  @Test
+  void entry_set_value_updates_map() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(OpenEnum.fromUnknown("unknown"), 2);
+
+    for (Map.Entry<OpenEnum<TestEnum, String>, Integer> entry : map.entrySet()) {
+      entry.setValue(entry.getValue() * 10);
+    }
+
+    assertEquals(10, map.get(TestEnum.SomeValue));
+    assertEquals(20, map.get(OpenEnum.fromUnknown("unknown")));
+  }
+
+  @Test
+  void iterator_removes_entries() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(TestEnum.OtherValue, 2);
+    map.put(OpenEnum.fromUnknown("unknown"), 3);
+
+    Iterator<Map.Entry<OpenEnum<TestEnum, String>, Integer>> iterator = map.entrySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().getValue() != 2) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(1, map.size());
+    assertEquals(2, map.get(TestEnum.OtherValue));
+  }
+
+  @Test
+  void equals_other_maps_with_same_mappings() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(TestEnum.ThirdValue, 3);
+    Map<OpenEnum<TestEnum, String>, Integer> hashMap = new HashMap<>();
+    hashMap.put(OpenEnum.fromEnum(TestEnum.SomeValue), 1);
+    hashMap.put(OpenEnum.fromEnum(TestEnum.ThirdValue), 3);
+
+    assertEquals(hashMap, map);
+    assertEquals(map, hashMap);
+    assertEquals(hashMap.hashCode(), map.hashCode());
+  }
+
+  @Test
+  void clear_removes_all_mappings() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+    map.put(TestEnum.SomeValue, 1);
+    map.put(OpenEnum.fromUnknown("unknown"), 2);
+
+    map.clear();
+
+    assertTrue(map.isEmpty());
+    assertNull(map.get(TestEnum.SomeValue));
+  }
+
+  @Test
+  void enum_key_must_not_be_null() {
+    OpenEnumMap<TestEnum, String, Integer> map = OpenEnumMap.create(TestEnum.class);
+
+    assertThrows(IllegalArgumentException.class, () -> map.put((TestEnum) null, 1));
+  }
+}
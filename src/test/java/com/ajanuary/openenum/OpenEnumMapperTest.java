@@ -0,0 +1,117 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumMapperTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue
+  }
+
+  @Test
+  void mapping_enum_returns_precomputed_result() {
+    AtomicInteger calls = new AtomicInteger();
+    OpenEnumMapper<TestEnum, String, String> mapper =
+        OpenEnumMapper.of(
+            TestEnum.class,
+            e -> {
+              calls.incrementAndGet();
+              return e.toString();
+            },
+            String::toUpperCase);
+
+    String first = mapper.apply(OpenEnum.fromEnum(TestEnum.SomeValue));
+    String second = mapper.apply(OpenEnum.fromEnum(TestEnum.SomeValue));
+
+    assertEquals("SomeValue", first);
+    assertEquals("SomeValue", second);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void mapping_unknown_applies_unknown_function() {
+    OpenEnumMapper<TestEnum, String, String> mapper =
+        OpenEnumMapper.of(TestEnum.class, TestEnum::toString, String::toUpperCase);
+
+    String result = mapper.apply(OpenEnum.fromUnknown("unknown"));
+
+    assertEquals("UNKNOWN", result);
+  }
+
+  @Test
+  void can_map_enum_and_unknown_values_without_wrapping() {
+    OpenEnumMapper<TestEnum, String, String> mapper =
+        OpenEnumMapper.of(TestEnum.class, TestEnum::toString, String::toUpperCase);
+
+    assertEquals("OtherValue", mapper.applyEnum(TestEnum.OtherValue));
+    assertEquals("UNKNOWN", mapper.applyUnknown("unknown"));
+  }
+
+  @Test
+  void builder_maps_constants_and_functions() {
+    AtomicInteger calls = new AtomicInteger();
+    OpenEnumMapper<TestEnum, String, Integer> mapper =
+        OpenEnumMapper.<TestEnum, String, Integer>builder(TestEnum.class)
+            .constant(TestEnum.SomeValue, 1)
+            .function(TestEnum.OtherValue, e -> calls.incrementAndGet())
+            .unknown(String::length)
+            .build();
+
+    assertEquals(1, mapper.apply(OpenEnum.fromEnum(TestEnum.SomeValue)));
+    assertEquals(1, mapper.apply(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertEquals(2, mapper.apply(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertEquals(7, mapper.apply(OpenEnum.fromUnknown("unknown")));
+  }
+
+  @Test
+  void later_mappings_replace_earlier_ones() {
+    OpenEnumMapper<TestEnum, String, Integer> mapper =
+        OpenEnumMapper.<TestEnum, String, Integer>builder(TestEnum.class)
+            .function(TestEnum.SomeValue, e -> 1)
+            .constant(TestEnum.SomeValue, null)
+            .constant(TestEnum.OtherValue, 2)
+            .unknown(String::length)
+            .build();
+
+    assertNull(mapper.applyEnum(TestEnum.SomeValue));
+  }
+
+  @Test
+  void building_with_unmapped_constant_throws() {
+    OpenEnumMapper.Builder<TestEnum, String, Integer> builder =
+        OpenEnumMapper.<TestEnum, String, Integer>builder(TestEnum.class)
+            .constant(TestEnum.SomeValue, 1)
+            .unknown(String::length);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void building_without_unknown_function_throws() {
+    OpenEnumMapper.Builder<TestEnum, String, Integer> builder =
+        OpenEnumMapper.<TestEnum, String, Integer>builder(TestEnum.class)
+            .constant(TestEnum.SomeValue, 1)
+            .constant(TestEnum.OtherValue, 2);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void built_mapper_is_not_affected_by_later_builder_changes() {
+    OpenEnumMapper.Builder<TestEnum, String, Integer> builder =
+        OpenEnumMapper.<TestEnum, String, Integer>builder(TestEnum.class)
+            .constant(TestEnum.SomeValue, 1)
+            .constant(TestEnum.OtherValue, 2)
+            .unknown(String::length);
+    OpenEnumMapper<TestEnum, String, Integer> mapper = builder.build();
+
+    builder.constant(TestEnum.SomeValue, 3);
+
+    assertEquals(1, mapper.applyEnum(TestEnum.SomeValue));
+  }
+}
@@ -0,0 +1,552 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumResolverTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue
+  }
+
+  enum EmptyEnum {}
+
+  enum NonAsciiEnum {
+    @WireName("Caf\u00e9")
+    CafeAcute,
+    Cafe
+  }
+
+  enum WireNameEnum {
+    @WireName({"enterprise-plus", "enterprise_plus"})
+    EnterprisePlus,
+    Basic
+  }
+
+  enum DuplicateWireNameEnum {
+    @WireName("Second")
+    First,
+    Second
+  }
+
+  enum FoldingCollisionEnum {
+    ENTERPRISE_PLUS,
+    EnterprisePlus
+  }
+
+  // "Aa" and "BB" have the same hash code, so this checks collisions are probed past.
+  enum CollidingEnum {
+    Aa,
+    BB
+  }
+
+  @Test
+  void resolves_name_to_canonical_enum_value() {
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolve("OtherValue");
+
+    assertSame(OpenEnum.fromEnum(TestEnum.OtherValue), openEnum);
+  }
+
+  @Test
+  void resolves_unmatched_name_to_unknown_value() {
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolve("someValue");
+
+    assertTrue(openEnum.isUnknownValue());
+    assertEquals("someValue", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void resolves_null_to_unknown_value() {
+    OpenEnum<TestEnum, String> openEnum = OpenEnumResolver.forEnum(TestEnum.class).resolve(null);
+
+    assertTrue(openEnum.isUnknownValue());
+    assertNull(openEnum.getUnknownValue());
+  }
+
+  @Test
+  void resolves_names_with_colliding_hash_codes() {
+    OpenEnumResolver<CollidingEnum> resolver = OpenEnumResolver.forEnum(CollidingEnum.class);
+
+    assertEquals(CollidingEnum.Aa, resolver.resolve("Aa").getEnumValue());
+    assertEquals(CollidingEnum.BB, resolver.resolve("BB").getEnumValue());
+    assertTrue(resolver.resolve("Ab").isUnknownValue());
+  }
+
+  @Test
+  void resolves_everything_to_unknown_for_empty_enum() {
+    OpenEnum<EmptyEnum, String> openEnum = OpenEnumResolver.forEnum(EmptyEnum.class).resolve("x");
+
+    assertEquals("x", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void resolver_is_shared_per_enum() {
+    assertSame(OpenEnumResolver.forEnum(TestEnum.class), OpenEnumResolver.forEnum(TestEnum.class));
+  }
+
+  @Test
+  void enum_type_must_not_be_null() {
+    assertThrows(IllegalArgumentException.class, () -> OpenEnumResolver.forEnum(null));
+  }
+
+  @Test
+  void resolves_chars_to_canonical_enum_value() {
+    char[] buf = "xOtherValuex".toCharArray();
+
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolve(buf, 1, buf.length - 2);
+
+    assertSame(OpenEnum.fromEnum(TestEnum.OtherValue), openEnum);
+  }
+
+  @Test
+  void resolves_unmatched_chars_to_unknown_value() {
+    char[] buf = "OtherValues".toCharArray();
+
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolve(buf, 0, buf.length);
+
+    assertEquals("OtherValues", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void resolving_chars_out_of_bounds_throws() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+    char[] buf = new char[4];
+
+    assertThrows(IndexOutOfBoundsException.class, () -> resolver.resolve(buf, 2, 3));
+  }
+
+  @Test
+  void resolves_bytes_to_canonical_enum_value() {
+    byte[] buf = "xxOtherValueyy".getBytes(StandardCharsets.UTF_8);
+
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolveUtf8(buf, 2, 10);
+
+    assertSame(OpenEnum.fromEnum(TestEnum.OtherValue), openEnum);
+  }
+
+  @Test
+  void resolves_unmatched_bytes_to_decoded_unknown_value() {
+    byte[] buf = "xxOtherValueyy".getBytes(StandardCharsets.UTF_8);
+
+    OpenEnum<TestEnum, String> openEnum =
+        OpenEnumResolver.forEnum(TestEnum.class).resolveUtf8(buf, 2, 11);
+
+    assertEquals("OtherValuey", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void resolves_non_ascii_bytes() {
+    OpenEnumResolver<NonAsciiEnum> resolver = OpenEnumResolver.forEnum(NonAsciiEnum.class);
+    byte[] buf = "Caf\u00e9".getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(NonAsciiEnum.CafeAcute, resolver.resolveUtf8(buf, 0, buf.length).getEnumValue());
+    assertEquals("Caf", resolver.resolveUtf8(buf, 0, 3).getUnknownValue());
+  }
+
+  @Test
+  void resolving_bytes_out_of_bounds_throws() {
+    byte[] buf = new byte[4];
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> OpenEnumResolver.forEnum(TestEnum.class).resolveUtf8(buf, 2, 3));
+  }
+
+  @Test
+  void resolves_heap_buffer_remaining_bytes() {
+    ByteBuffer buf = ByteBuffer.wrap("xxSomeValueyy".getBytes(StandardCharsets.UTF_8));
+    buf.position(2).limit(11);
+
+    OpenEnum<TestEnum, String> openEnum = OpenEnumResolver.forEnum(TestEnum.class).resolveUtf8(buf);
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), openEnum);
+    assertEquals(2, buf.position());
+  }
+
+  @Test
+  void resolves_sliced_heap_buffer() {
+    ByteBuffer buf =
+        ByteBuffer.wrap("xxSomeValueyy".getBytes(StandardCharsets.UTF_8)).position(2).slice();
+    buf.limit(9);
+
+    OpenEnum<TestEnum, String> openEnum = OpenEnumResolver.forEnum(TestEnum.class).resolveUtf8(buf);
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), openEnum);
+  }
+
+  @Test
+  void resolves_direct_buffer() {
+    ByteBuffer buf = ByteBuffer.allocateDirect(16);
+    buf.put("xxCaf\u00e9".getBytes(StandardCharsets.UTF_8)).flip().position(2);
+
+    OpenEnum<NonAsciiEnum, String> openEnum =
+        OpenEnumResolver.forEnum(NonAsciiEnum.class).resolveUtf8(buf);
+
+    assertSame(OpenEnum.fromEnum(NonAsciiEnum.CafeAcute), openEnum);
+    assertEquals(2, buf.position());
+  }
+
+  @Test
+  void resolves_unmatched_direct_buffer_to_decoded_unknown_value() {
+    ByteBuffer buf = ByteBuffer.allocateDirect(16);
+    buf.put("Caf\u00e9s".getBytes(StandardCharsets.UTF_8)).flip();
+
+    OpenEnum<NonAsciiEnum, String> openEnum =
+        OpenEnumResolver.forEnum(NonAsciiEnum.class).resolveUtf8(buf);
+
+    assertEquals("Caf\u00e9s", openEnum.getUnknownValue());
+  }
+
+  @Test
+  void builder_without_options_matches_names() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.builder(TestEnum.class).build();
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), resolver.resolve("SomeValue"));
+  }
+
+  @Test
+  void interns_unknown_values_in_cache() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).unknownCache(cache).build();
+    byte[] buf = "unknown".getBytes(StandardCharsets.UTF_8);
+
+    OpenEnum<TestEnum, String> first = resolver.resolve("unknown");
+    OpenEnum<TestEnum, String> second = resolver.resolveUtf8(buf, 0, buf.length);
+
+    assertSame(first, second);
+    assertEquals(1, cache.hitCount());
+  }
+
+  @Test
+  void notifies_listener_of_unknown_names_only() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).listener(telemetry).build();
+    byte[] buf = "unknown".getBytes(StandardCharsets.UTF_8);
+
+    resolver.resolve("SomeValue");
+    resolver.resolve("unknown");
+    resolver.resolveUtf8(buf, 0, buf.length);
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+    assertEquals(2, snapshot.totalCount());
+    assertEquals("unknown", snapshot.topValues().get(0).value());
+  }
+
+  @Test
+  void records_stats() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).unknownCache(cache).recordStats(true).build();
+    byte[] buf = "unknown".getBytes(StandardCharsets.UTF_8);
+
+    resolver.resolve("SomeValue");
+    resolver.resolve("SomeValue".toCharArray(), 0, 9);
+    resolver.resolve("unknown");
+    resolver.resolveUtf8(ByteBuffer.wrap(buf));
+
+    ResolverStats stats = resolver.stats();
+    assertEquals(4, stats.resolutionCount());
+    assertEquals(2, stats.unknownCount());
+    assertEquals(0.5, stats.unknownRate());
+    assertEquals(1, stats.distinctUnknownCount());
+    assertEquals(1, stats.cacheHitCount());
+    assertEquals(1, stats.cacheMissCount());
+    assertEquals(0.5, stats.cacheHitRate());
+  }
+
+  @Test
+  void looks_up_constants_without_recording_unknown_names() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class)
+            .ignoreAsciiCase(true)
+            .listener(telemetry)
+            .recordStats(true)
+            .build();
+
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), resolver.lookup("somevalue"));
+    assertSame(
+        OpenEnum.fromEnum(TestEnum.OtherValue), resolver.lookup("OtherValue".toCharArray(), 0, 10));
+    assertNull(resolver.lookup("unknown"));
+    assertNull(resolver.lookup(null));
+    assertNull(resolver.lookup("unknown".toCharArray(), 0, 7));
+
+    assertEquals(0, resolver.stats().resolutionCount());
+    assertEquals(0, telemetry.snapshot(TestEnum.class).totalCount());
+  }
+
+  @Test
+  void records_cache_lookups_of_each_resolver_sharing_a_cache() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+    OpenEnumResolver<TestEnum> first =
+        OpenEnumResolver.builder(TestEnum.class).unknownCache(cache).recordStats(true).build();
+    OpenEnumResolver<TestEnum> second =
+        OpenEnumResolver.builder(TestEnum.class).unknownCache(cache).recordStats(true).build();
+
+    first.resolve("unknown");
+    second.resolve("unknown");
+    second.resolve("unknown");
+
+    assertEquals(0, first.stats().cacheHitCount());
+    assertEquals(1, first.stats().cacheMissCount());
+    assertEquals(2, second.stats().cacheHitCount());
+    assertEquals(0, second.stats().cacheMissCount());
+  }
+
+  @Test
+  void stats_recorder_reads_current_counts() {
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).recordStats(true).build();
+    ResolverStatsRecorder stats = resolver.statsRecorder();
+
+    resolver.resolve("SomeValue");
+    resolver.resolve("unknown");
+
+    assertEquals(2, stats.resolutionCount());
+    assertEquals(1, stats.unknownCount());
+    assertEquals(0.5, stats.unknownRate());
+    assertEquals(1, stats.distinctUnknownCount());
+    assertEquals(0, stats.cacheHitCount());
+    assertEquals(0, stats.cacheMissCount());
+  }
+
+  @Test
+  void stats_must_be_recorded() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+
+    assertThrows(IllegalStateException.class, resolver::stats);
+    assertThrows(IllegalStateException.class, resolver::statsRecorder);
+  }
+
+  @Test
+  void resolves_annotated_wire_names() {
+    OpenEnumResolver<WireNameEnum> resolver = OpenEnumResolver.forEnum(WireNameEnum.class);
+    byte[] buf = "enterprise_plus".getBytes(StandardCharsets.UTF_8);
+
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolve("enterprise-plus"));
+    assertSame(
+        OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolveUtf8(buf, 0, buf.length));
+    assertSame(OpenEnum.fromEnum(WireNameEnum.Basic), resolver.resolve("Basic"));
+  }
+
+  @Test
+  void annotated_constants_are_not_resolved_by_name() {
+    OpenEnum<WireNameEnum, String> openEnum =
+        OpenEnumResolver.forEnum(WireNameEnum.class).resolve("EnterprisePlus");
+
+    assertTrue(openEnum.isUnknownValue());
+  }
+
+  @Test
+  void wire_name_is_first_annotated_name() {
+    OpenEnumResolver<WireNameEnum> resolver = OpenEnumResolver.forEnum(WireNameEnum.class);
+
+    assertEquals("enterprise-plus", resolver.wireName(WireNameEnum.EnterprisePlus));
+    assertEquals("Basic", resolver.wireName(WireNameEnum.Basic));
+  }
+
+  @Test
+  void builder_wire_names_replace_default_names() {
+    OpenEnumResolver<WireNameEnum> resolver =
+        OpenEnumResolver.builder(WireNameEnum.class)
+            .wireName(WireNameEnum.EnterprisePlus, "ENTERPRISE_PLUS", "ep")
+            .wireName(WireNameEnum.Basic, "basic")
+            .build();
+
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolve("ep"));
+    assertSame(OpenEnum.fromEnum(WireNameEnum.Basic), resolver.resolve("basic"));
+    assertTrue(resolver.resolve("enterprise-plus").isUnknownValue());
+    assertTrue(resolver.resolve("Basic").isUnknownValue());
+    assertEquals("ENTERPRISE_PLUS", resolver.wireName(WireNameEnum.EnterprisePlus));
+  }
+
+  @Test
+  void wire_name_defaults_to_constant_name() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+
+    assertEquals("SomeValue", resolver.wireName(TestEnum.SomeValue));
+  }
+
+  @Test
+  void names_shared_by_constants_are_rejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> OpenEnumResolver.builder(DuplicateWireNameEnum.class).build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            OpenEnumResolver.builder(TestEnum.class)
+                .wireName(TestEnum.SomeValue, "value")
+                .wireName(TestEnum.OtherValue, "other", "value")
+                .build());
+  }
+
+  @Test
+  void builder_wire_name_must_not_be_null() {
+    OpenEnumResolver.Builder<TestEnum> builder = OpenEnumResolver.builder(TestEnum.class);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.wireName(TestEnum.SomeValue, null));
+    assertThrows(IllegalArgumentException.class, () -> builder.wireName(null, "name"));
+  }
+
+  @Test
+  void ignores_ascii_case() {
+    OpenEnumResolver<WireNameEnum> resolver =
+        OpenEnumResolver.builder(WireNameEnum.class).ignoreAsciiCase(true).build();
+    byte[] buf = "xENTERPRISE-PLUSx".getBytes(StandardCharsets.UTF_8);
+
+    assertSame(OpenEnum.fromEnum(WireNameEnum.Basic), resolver.resolve("bASIC"));
+    assertSame(
+        OpenEnum.fromEnum(WireNameEnum.Basic), resolver.resolve("BASIC".toCharArray(), 0, 5));
+    assertSame(
+        OpenEnum.fromEnum(WireNameEnum.EnterprisePlus),
+        resolver.resolveUtf8(buf, 1, buf.length - 2));
+    assertTrue(resolver.resolve("enterpriseplus").isUnknownValue());
+  }
+
+  @Test
+  void ignoring_ascii_case_does_not_fold_other_letters() {
+    OpenEnumResolver<NonAsciiEnum> resolver =
+        OpenEnumResolver.builder(NonAsciiEnum.class).ignoreAsciiCase(true).build();
+
+    assertSame(OpenEnum.fromEnum(NonAsciiEnum.CafeAcute), resolver.resolve("CAF\u00e9"));
+    assertTrue(resolver.resolve("CAF\u00c9").isUnknownValue());
+  }
+
+  @Test
+  void ignores_separators() {
+    OpenEnumResolver<WireNameEnum> resolver =
+        OpenEnumResolver.builder(WireNameEnum.class).ignoreSeparators(true).build();
+    ByteBuffer buf = ByteBuffer.allocateDirect(32);
+    buf.put("enter prise_plus".getBytes(StandardCharsets.UTF_8)).flip();
+
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolve("enterpriseplus"));
+    assertSame(OpenEnum.fromEnum(WireNameEnum.Basic), resolver.resolve("_Ba-sic_"));
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolveUtf8(buf));
+    assertTrue(resolver.resolve("basic").isUnknownValue());
+  }
+
+  @Test
+  void ignores_case_and_separators_together() {
+    OpenEnumResolver<WireNameEnum> resolver =
+        OpenEnumResolver.builder(WireNameEnum.class)
+            .ignoreAsciiCase(true)
+            .ignoreSeparators(true)
+            .build();
+    ByteBuffer buf = ByteBuffer.wrap("Enterprise Plus".getBytes(StandardCharsets.UTF_8));
+
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolve("ENTERPRISEPLUS"));
+    assertSame(OpenEnum.fromEnum(WireNameEnum.EnterprisePlus), resolver.resolveUtf8(buf));
+    assertEquals("enterprise-plus", resolver.wireName(WireNameEnum.EnterprisePlus));
+  }
+
+  @Test
+  void unknown_names_are_kept_as_given_when_folding() {
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class).ignoreAsciiCase(true).build();
+
+    assertEquals("Some-Value", resolver.resolve("Some-Value").getUnknownValue());
+    assertNull(resolver.resolve(null).getUnknownValue());
+  }
+
+  @Test
+  void names_that_fold_together_are_rejected() {
+    OpenEnumResolver.Builder<FoldingCollisionEnum> builder =
+        OpenEnumResolver.builder(FoldingCollisionEnum.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.ignoreAsciiCase(true).ignoreSeparators(true).build());
+    assertSame(
+        OpenEnum.fromEnum(FoldingCollisionEnum.ENTERPRISE_PLUS),
+        builder.ignoreSeparators(false).build().resolve("enterprise_plus"));
+  }
+
+  @Test
+  void resolves_batches_in_parallel() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+    String[] names = batch(10_000);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    OpenEnum<TestEnum, String>[] out = new OpenEnum[names.length];
+
+    resolver.resolveAll(names, out);
+
+    for (int i = 0; i < names.length; i++) {
+      assertEquals(resolver.resolve(names[i]), out[i]);
+    }
+  }
+
+  @Test
+  void resolves_batches_to_ordinals_on_an_executor() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+    String[] names = batch(10_000);
+    int[] out = new int[names.length];
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      resolver.resolveOrdinals(names, out, executor, 3);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(TestEnum.SomeValue.ordinal(), out[0]);
+    assertEquals(TestEnum.OtherValue.ordinal(), out[1]);
+    assertEquals(-1, out[2]);
+    assertEquals(-1, out[9_998]);
+  }
+
+  @Test
+  void resolving_ordinals_records_unknown_names_without_interning_them() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenEnumResolver<TestEnum> resolver =
+        OpenEnumResolver.builder(TestEnum.class)
+            .unknownCache(cache)
+            .listener(telemetry)
+            .recordStats(true)
+            .build();
+    int[] out = new int[3];
+
+    resolver.resolveOrdinals(new String[] {"OtherValue", "unknown", null}, out);
+
+    assertArrayEquals(new int[] {TestEnum.OtherValue.ordinal(), -1, -1}, out);
+    assertEquals(3, resolver.stats().resolutionCount());
+    assertEquals(2, resolver.stats().unknownCount());
+    assertEquals(2, telemetry.snapshot(TestEnum.class).totalCount());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void batch_output_must_fit_names() {
+    OpenEnumResolver<TestEnum> resolver = OpenEnumResolver.forEnum(TestEnum.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> resolver.resolveOrdinals(new String[] {"SomeValue"}, new int[0]));
+  }
+
+  private static String[] batch(int size) {
+    String[] names = new String[size];
+    for (int i = 0; i < size; i++) {
+      names[i] = i % 3 == 0 ? "SomeValue" : i % 3 == 1 ? "OtherValue" : "Unknown" + i;
+    }
+    return names;
+  }
+}
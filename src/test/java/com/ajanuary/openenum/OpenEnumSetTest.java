@@ -0,0 +1,266 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.Character.UnicodeScript;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class OpenEnumSetTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue,
+    ThirdValue
+  }
+
+  @Test
+  void new_set_is_empty() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.iterator().hasNext());
+  }
+
+  @Test
+  void contains_added_enum_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+
+    assertTrue(set.add(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertTrue(set.add(TestEnum.ThirdValue));
+
+    assertTrue(set.contains(OpenEnum.fromEnum(TestEnum.OtherValue)));
+    assertTrue(set.contains(TestEnum.ThirdValue));
+    assertFalse(set.contains(TestEnum.SomeValue));
+    assertEquals(2, set.size());
+  }
+
+  @Test
+  void contains_added_unknown_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+
+    assertTrue(set.add(OpenEnum.fromUnknown("unknown")));
+
+    assertTrue(set.contains(OpenEnum.fromUnknown("unknown")));
+    assertFalse(set.contains(OpenEnum.fromUnknown("other")));
+    assertEquals(1, set.size());
+  }
+
+  @Test
+  void adding_existing_value_returns_false() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(TestEnum.SomeValue);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    assertFalse(set.add(TestEnum.SomeValue));
+    assertFalse(set.add(OpenEnum.fromUnknown("unknown")));
+    assertEquals(2, set.size());
+  }
+
+  @Test
+  void removes_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(TestEnum.SomeValue);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    assertTrue(set.remove(OpenEnum.fromEnum(TestEnum.SomeValue)));
+    assertTrue(set.remove(OpenEnum.fromUnknown("unknown")));
+    assertFalse(set.remove(TestEnum.SomeValue));
+
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void null_is_never_contained_or_removed() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+
+    assertFalse(set.contains((TestEnum) null));
+    assertFalse(set.contains((Object) null));
+    assertFalse(set.remove((TestEnum) null));
+    assertFalse(set.remove((Object) null));
+
+    assertEquals(3, set.size());
+  }
+
+  @Test
+  void iterates_enum_values_in_ordinal_order_then_unknown_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+    set.add(TestEnum.ThirdValue);
+    set.add(TestEnum.SomeValue);
+
+    List<OpenEnum<TestEnum, String>> values = new ArrayList<>(set);
+
+    assertEquals(3, values.size());
+    assertSame(OpenEnum.fromEnum(TestEnum.SomeValue), values.get(0));
+    assertSame(OpenEnum.fromEnum(TestEnum.ThirdValue), values.get(1));
+    assertEquals("unknown", values.get(2).getUnknownValue());
+  }
+
+  @Test
+  void iterator_removes_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    Iterator<OpenEnum<TestEnum, String>> iterator = set.iterator();
+    while (iterator.hasNext()) {
+      OpenEnum<TestEnum, String> value = iterator.next();
+      if (value.isUnknownValue() || value.getEnumValue() != TestEnum.OtherValue) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(1, set.size());
+    assertTrue(set.contains(TestEnum.OtherValue));
+  }
+
+  @Test
+  void all_of_contains_every_constant() {
+    // UnicodeScript has more than 64 constants, so needs more than one word.
+    OpenEnumSet<UnicodeScript, String> set = OpenEnumSet.allOf(UnicodeScript.class);
+
+    assertEquals(UnicodeScript.values().length, set.size());
+    for (UnicodeScript value : UnicodeScript.values()) {
+      assertTrue(set.contains(value));
+    }
+  }
+
+  @Test
+  void supports_more_than_64_constants() {
+    OpenEnumSet<UnicodeScript, String> set = OpenEnumSet.noneOf(UnicodeScript.class);
+    set.add(UnicodeScript.values()[3]);
+    set.add(UnicodeScript.values()[64]);
+    set.add(UnicodeScript.values()[100]);
+
+    List<OpenEnum<UnicodeScript, String>> values = new ArrayList<>(set);
+
+    assertEquals(
+        List.of(
+            OpenEnum.fromEnum(UnicodeScript.values()[3]),
+            OpenEnum.fromEnum(UnicodeScript.values()[64]),
+            OpenEnum.fromEnum(UnicodeScript.values()[100])),
+        values);
+  }
+
+  @Test
+  void add_all_forms_union() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(TestEnum.SomeValue);
+    OpenEnumSet<TestEnum, String> other = OpenEnumSet.noneOf(TestEnum.class);
+    other.add(TestEnum.OtherValue);
+    other.add(OpenEnum.fromUnknown("unknown"));
+
+    assertTrue(set.addAll(other));
+    assertFalse(set.addAll(other));
+
+    assertEquals(3, set.size());
+    assertTrue(set.contains(TestEnum.SomeValue));
+    assertTrue(set.contains(TestEnum.OtherValue));
+    assertTrue(set.contains(OpenEnum.fromUnknown("unknown")));
+  }
+
+  @Test
+  void retain_all_forms_intersection() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+    set.add(OpenEnum.fromUnknown("other"));
+    OpenEnumSet<TestEnum, String> other = OpenEnumSet.noneOf(TestEnum.class);
+    other.add(TestEnum.OtherValue);
+    other.add(OpenEnum.fromUnknown("unknown"));
+
+    assertTrue(set.retainAll(other));
+
+    assertEquals(2, set.size());
+    assertTrue(set.contains(TestEnum.OtherValue));
+    assertTrue(set.contains(OpenEnum.fromUnknown("unknown")));
+  }
+
+  @Test
+  void retain_all_with_set_without_unknown_values_removes_unknown_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    assertTrue(set.retainAll(OpenEnumSet.allOf(TestEnum.class)));
+
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void remove_all_forms_difference() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+    OpenEnumSet<TestEnum, String> other = OpenEnumSet.noneOf(TestEnum.class);
+    other.add(TestEnum.OtherValue);
+    other.add(OpenEnum.fromUnknown("unknown"));
+
+    assertTrue(set.removeAll(other));
+
+    assertEquals(
+        Set.of(OpenEnum.fromEnum(TestEnum.SomeValue), OpenEnum.fromEnum(TestEnum.ThirdValue)), set);
+  }
+
+  @Test
+  void contains_all_checks_known_and_unknown_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+    OpenEnumSet<TestEnum, String> other = OpenEnumSet.noneOf(TestEnum.class);
+    other.add(TestEnum.OtherValue);
+
+    assertTrue(set.containsAll(other));
+
+    other.add(OpenEnum.fromUnknown("unknown"));
+
+    assertFalse(set.containsAll(other));
+  }
+
+  @Test
+  void copy_is_independent_of_original() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(TestEnum.SomeValue);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    OpenEnumSet<TestEnum, String> copy = OpenEnumSet.copyOf(set);
+    copy.add(TestEnum.OtherValue);
+    copy.add(OpenEnum.fromUnknown("other"));
+
+    assertEquals(2, set.size());
+    assertEquals(4, copy.size());
+  }
+
+  @Test
+  void equals_other_sets_with_same_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+    set.add(TestEnum.SomeValue);
+    set.add(TestEnum.ThirdValue);
+    Set<OpenEnum<TestEnum, String>> hashSet =
+        new HashSet<>(
+            List.of(OpenEnum.fromEnum(TestEnum.SomeValue), OpenEnum.fromEnum(TestEnum.ThirdValue)));
+
+    assertEquals(hashSet, set);
+    assertEquals(set, hashSet);
+    assertEquals(hashSet.hashCode(), set.hashCode());
+  }
+
+  @Test
+  void clear_removes_all_values() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.allOf(TestEnum.class);
+    set.add(OpenEnum.fromUnknown("unknown"));
+
+    set.clear();
+
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void enum_value_must_not_be_null() {
+    OpenEnumSet<TestEnum, String> set = OpenEnumSet.noneOf(TestEnum.class);
+
+    assertThrows(IllegalArgumentException.class, () -> set.add((TestEnum) null));
+  }
+}
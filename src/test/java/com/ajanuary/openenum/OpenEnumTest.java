@@ -2,17 +2,33 @@ package com.ajanuary.openenum;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
 public class OpenEnumTest {
   enum TestEnum {
-    SomeValue
+    SomeValue,
+    OtherValue
+  }
+
+  enum ConstantBodyEnum {
+    WithBody {
+      @Override
+      public String toString() {
+        return "body";
+      }
+    }
   }
 
   @Test
@@ -53,6 +69,44 @@ public class OpenEnumTest {
     assertEquals("UNKNOWN", result.get());
   }
 
+  @Test
+  void folding_enum_applies_function_to_enum() {
+    OpenEnum<TestEnum, String> openEnum = OpenEnum.fromEnum(TestEnum.SomeValue);
+
+    String result = openEnum.fold(TestEnum::toString, String::toUpperCase);
+
+    assertEquals("SomeValue", result);
+  }
+
+  @Test
+  void folding_unknown_applies_function_to_unknown() {
+    OpenEnum<TestEnum, String> openEnum = OpenEnum.fromUnknown("unknown");
+
+    String result = openEnum.fold(TestEnum::toString, String::toUpperCase);
+
+    assertEquals("UNKNOWN", result);
+  }
+
+  @Test
+  void handling_enum_value_applies_enum_consumer() {
+    OpenEnum<TestEnum, String> openEnum = OpenEnum.fromEnum(TestEnum.SomeValue);
+
+    AtomicReference<String> result = new AtomicReference<>();
+    openEnum.handle(e -> result.set(e.toString()), u -> result.set(u.toUpperCase()));
+
+    assertEquals("SomeValue", result.get());
+  }
+
+  @Test
+  void handling_unknown_value_applies_unknown_consumer() {
+    OpenEnum<TestEnum, String> openEnum = OpenEnum.fromUnknown("unknown");
+
+    AtomicReference<String> result = new AtomicReference<>();
+    openEnum.handle(e -> result.set(e.toString()), u -> result.set(u.toUpperCase()));
+
+    assertEquals("UNKNOWN", result.get());
+  }
+
   @Test
   void toString_on_enum_value_contains_enum_value() {
     OpenEnum<TestEnum, String> openEnum = OpenEnum.fromEnum(TestEnum.SomeValue);
@@ -72,9 +126,110 @@ public class OpenEnumTest {
     assertThrows(IllegalArgumentException.class, () -> OpenEnum.fromEnum(null));
   }
 
+  @Test
+  void enum_values_are_canonical() {
+    OpenEnum<TestEnum, String> first = OpenEnum.fromEnum(TestEnum.SomeValue);
+    OpenEnum<TestEnum, Integer> second = OpenEnum.fromEnum(TestEnum.SomeValue);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  void different_enum_values_are_not_the_same_instance() {
+    OpenEnum<TestEnum, String> first = OpenEnum.fromEnum(TestEnum.SomeValue);
+    OpenEnum<TestEnum, String> second = OpenEnum.fromEnum(TestEnum.OtherValue);
+
+    assertNotSame(first, second);
+    assertEquals(TestEnum.OtherValue, second.getEnumValue());
+  }
+
+  @Test
+  void enum_values_with_constant_bodies_are_canonical() {
+    OpenEnum<ConstantBodyEnum, String> first = OpenEnum.fromEnum(ConstantBodyEnum.WithBody);
+    OpenEnum<ConstantBodyEnum, String> second = OpenEnum.fromEnum(ConstantBodyEnum.WithBody);
+
+    assertSame(first, second);
+    assertEquals(ConstantBodyEnum.WithBody, first.getEnumValue());
+  }
+
   @Test
   void equals_fulfills_contract() {
-    EqualsVerifier.forClass(OpenEnum.class).withNonnullFields("enumValue").verify();
+    EqualsVerifier.forClass(OpenEnum.class).verify();
+  }
+
+  @Test
+  void unknown_value_does_not_equal_enum_value() {
+    OpenEnum<TestEnum, String> unknown = OpenEnum.fromUnknown("SomeValue");
+    OpenEnum<TestEnum, String> known = OpenEnum.fromEnum(TestEnum.SomeValue);
+
+    assertFalse(unknown.equals(known));
+    assertFalse(known.equals(unknown));
+  }
+
+  @Test
+  void unknown_values_are_equal_if_their_values_are_equal() {
+    OpenEnum<TestEnum, String> first = OpenEnum.fromUnknown("unknown");
+    OpenEnum<TestEnum, String> second = OpenEnum.fromUnknown("unknown");
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    assertFalse(first.equals(OpenEnum.fromUnknown("other")));
+  }
+
+  @Test
+  void null_unknown_values_are_equal() {
+    OpenEnum<TestEnum, String> first = OpenEnum.fromUnknown(null);
+    OpenEnum<TestEnum, String> second = OpenEnum.fromUnknown(null);
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    assertFalse(first.equals(OpenEnum.fromUnknown("unknown")));
+  }
+
+  @Test
+  void hash_code_matches_objects_hash() {
+    OpenEnum<TestEnum, String> known = OpenEnum.fromEnum(TestEnum.SomeValue);
+    OpenEnum<TestEnum, String> unknown = OpenEnum.fromUnknown("unknown");
+
+    assertEquals(Objects.hash(TestEnum.SomeValue, null), known.hashCode());
+    assertEquals(Objects.hash(null, "unknown"), unknown.hashCode());
+  }
+
+  @Test
+  void equals_and_hash_code_are_consistent_for_random_values() {
+    Random random = new Random(42);
+    List<OpenEnum<TestEnum, Integer>> values = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      values.add(randomOpenEnum(random));
+    }
+
+    for (OpenEnum<TestEnum, Integer> a : values) {
+      assertEquals(a, a);
+      assertFalse(a.equals(null));
+      for (OpenEnum<TestEnum, Integer> b : values) {
+        boolean sameContents =
+            a.isEnumValue()
+                ? b.isEnumValue() && a.getEnumValue() == b.getEnumValue()
+                : b.isUnknownValue() && Objects.equals(a.getUnknownValue(), b.getUnknownValue());
+        assertEquals(sameContents, a.equals(b));
+        assertEquals(a.equals(b), b.equals(a));
+        if (a.equals(b)) {
+          assertEquals(a.hashCode(), b.hashCode());
+        }
+      }
+    }
+  }
+
+  private static OpenEnum<TestEnum, Integer> randomOpenEnum(Random random) {
+    switch (random.nextInt(3)) {
+      case 0:
+        return OpenEnum.fromEnum(TestEnum.values()[random.nextInt(TestEnum.values().length)]);
+      case 1:
+        return OpenEnum.fromUnknown(random.nextBoolean() ? null : random.nextInt(4));
+      default:
+        // Distinct Integer instances, so equality can't rely on identity.
+        return OpenEnum.fromUnknown(Integer.valueOf(1000 + random.nextInt(4)));
+    }
   }
 
   @Test
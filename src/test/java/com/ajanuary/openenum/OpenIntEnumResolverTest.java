@@ -0,0 +1,234 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class OpenIntEnumResolverTest {
+  enum Status {
+    Ok(0),
+    Cancelled(1),
+    Unknown(2),
+    InvalidArgument(3);
+
+    private final int code;
+
+    Status(int code) {
+      this.code = code;
+    }
+  }
+
+  enum SparseStatus {
+    Negative(-1_000_000),
+    Zero(0),
+    Large(1 << 20),
+    Max(Integer.MAX_VALUE),
+    Min(Integer.MIN_VALUE);
+
+    private final int code;
+
+    SparseStatus(int code) {
+      this.code = code;
+    }
+  }
+
+  enum AnnotatedStatus {
+    @OpenEnumId(10)
+    Ok,
+    @OpenEnumId({30, 20})
+    Failed
+  }
+
+  enum PartlyAnnotatedStatus {
+    @OpenEnumId(1)
+    Ok,
+    Failed
+  }
+
+  enum ClashingStatus {
+    @OpenEnumId(1)
+    Ok,
+    @OpenEnumId(1)
+    Failed
+  }
+
+  enum EmptyEnum {}
+
+  @Test
+  void resolves_dense_codes_to_canonical_enum_values() {
+    OpenIntEnumResolver<Status> resolver = OpenIntEnumResolver.of(Status.class, s -> s.code);
+
+    for (Status status : Status.values()) {
+      assertSame(OpenIntEnum.fromEnum(status), resolver.resolve(status.code));
+    }
+  }
+
+  @Test
+  void resolves_codes_outside_dense_range_to_unknown() {
+    OpenIntEnumResolver<Status> resolver = OpenIntEnumResolver.of(Status.class, s -> s.code);
+
+    for (int code : new int[] {-1, 4, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+      OpenIntEnum<Status> openIntEnum = resolver.resolve(code);
+
+      assertTrue(openIntEnum.isUnknownValue());
+      assertEquals(code, openIntEnum.getUnknownValue());
+    }
+  }
+
+  @Test
+  void resolves_gaps_in_dense_range_to_unknown() {
+    OpenIntEnumResolver<Status> resolver =
+        OpenIntEnumResolver.builder(Status.class)
+            .code(Status.Ok, 10)
+            .code(Status.Cancelled, 11)
+            .code(Status.Unknown, 13)
+            .code(Status.InvalidArgument, 14)
+            .build();
+
+    assertSame(OpenIntEnum.fromEnum(Status.Unknown), resolver.resolve(13));
+    assertEquals(12, resolver.resolve(12).getUnknownValue());
+    assertEquals(9, resolver.resolve(9).getUnknownValue());
+  }
+
+  @Test
+  void resolves_sparse_codes_to_canonical_enum_values() {
+    OpenIntEnumResolver<SparseStatus> resolver =
+        OpenIntEnumResolver.of(SparseStatus.class, s -> s.code);
+
+    for (SparseStatus status : SparseStatus.values()) {
+      assertSame(OpenIntEnum.fromEnum(status), resolver.resolve(status.code));
+    }
+  }
+
+  @Test
+  void resolves_unmatched_sparse_codes_to_unknown() {
+    OpenIntEnumResolver<SparseStatus> resolver =
+        OpenIntEnumResolver.of(SparseStatus.class, s -> s.code);
+
+    for (int code = -100; code <= 100; code++) {
+      if (code != 0) {
+        assertEquals(code, resolver.resolve(code).getUnknownValue());
+      }
+    }
+    assertEquals((1 << 20) + 1, resolver.resolve((1 << 20) + 1).getUnknownValue());
+  }
+
+  @Test
+  void resolves_every_code_to_unknown_for_empty_enum() {
+    OpenIntEnumResolver<EmptyEnum> resolver = OpenIntEnumResolver.of(EmptyEnum.class, e -> 0);
+
+    assertEquals(0, resolver.resolve(0).getUnknownValue());
+    assertEquals(Integer.MAX_VALUE, resolver.resolve(Integer.MAX_VALUE).getUnknownValue());
+  }
+
+  @Test
+  void extra_codes_resolve_to_constant() {
+    OpenIntEnumResolver<Status> resolver =
+        OpenIntEnumResolver.builder(Status.class)
+            .code(Status.Ok, 0)
+            .code(Status.Ok, 200)
+            .code(Status.Cancelled, 1)
+            .code(Status.Unknown, 2)
+            .code(Status.InvalidArgument, 3)
+            .build();
+
+    assertSame(OpenIntEnum.fromEnum(Status.Ok), resolver.resolve(200));
+    assertEquals(0, resolver.code(Status.Ok));
+  }
+
+  @Test
+  void returns_code_of_constant() {
+    OpenIntEnumResolver<SparseStatus> resolver =
+        OpenIntEnumResolver.of(SparseStatus.class, s -> s.code);
+
+    assertEquals(Integer.MIN_VALUE, resolver.code(SparseStatus.Min));
+    assertEquals(-1_000_000, resolver.code(SparseStatus.Negative));
+  }
+
+  @Test
+  void codes_shared_by_constants_are_rejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> OpenIntEnumResolver.of(Status.class, s -> 0));
+  }
+
+  @Test
+  void every_constant_must_have_a_code() {
+    OpenIntEnumResolver.Builder<Status> builder =
+        OpenIntEnumResolver.builder(Status.class).code(Status.Ok, 0);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void resolves_annotated_ids() {
+    OpenIntEnumResolver<AnnotatedStatus> resolver =
+        OpenIntEnumResolver.ofAnnotated(AnnotatedStatus.class);
+
+    assertSame(OpenIntEnum.fromEnum(AnnotatedStatus.Ok), resolver.resolve(10));
+    assertSame(OpenIntEnum.fromEnum(AnnotatedStatus.Failed), resolver.resolve(30));
+    assertSame(OpenIntEnum.fromEnum(AnnotatedStatus.Failed), resolver.resolve(20));
+    assertEquals(0, resolver.resolve(0).getUnknownValue());
+    assertEquals(30, resolver.code(AnnotatedStatus.Failed));
+  }
+
+  @Test
+  void every_constant_must_be_annotated() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> OpenIntEnumResolver.ofAnnotated(PartlyAnnotatedStatus.class));
+  }
+
+  @Test
+  void annotated_ids_shared_by_constants_are_rejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> OpenIntEnumResolver.ofAnnotated(ClashingStatus.class));
+  }
+
+  @Test
+  void notifies_listener_of_unknown_codes_only() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenIntEnumResolver<Status> resolver =
+        OpenIntEnumResolver.builder(Status.class)
+            .code(Status.Ok, 0)
+            .code(Status.Cancelled, 1)
+            .code(Status.Unknown, 2)
+            .code(Status.InvalidArgument, 3)
+            .listener(telemetry)
+            .build();
+
+    resolver.resolve(0);
+    resolver.resolve(42);
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(Status.class);
+    assertEquals(1, snapshot.totalCount());
+    assertEquals(42, snapshot.topValues().get(0).value());
+  }
+
+  @Test
+  void looks_up_codes_without_notifying_listener() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    OpenIntEnumResolver<SparseStatus> resolver =
+        OpenIntEnumResolver.builder(SparseStatus.class)
+            .code(SparseStatus.Negative, -1_000_000)
+            .code(SparseStatus.Zero, 0)
+            .code(SparseStatus.Large, 1 << 20)
+            .code(SparseStatus.Max, Integer.MAX_VALUE)
+            .code(SparseStatus.Min, Integer.MIN_VALUE)
+            .listener(telemetry)
+            .build();
+
+    assertSame(OpenIntEnum.fromEnum(SparseStatus.Large), resolver.lookup(1 << 20));
+    assertNull(resolver.lookup(42));
+    assertEquals(0, telemetry.snapshot(SparseStatus.class).totalCount());
+  }
+
+  @Test
+  void enum_type_must_be_an_enum() {
+    assertThrows(IllegalArgumentException.class, () -> OpenIntEnumResolver.builder(null));
+  }
+}
@@ -0,0 +1,113 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+public class OpenIntEnumTest {
+  enum TestEnum {
+    SomeValue,
+    OtherValue
+  }
+
+  @Test
+  void enum_values_are_canonical() {
+    OpenIntEnum<TestEnum> first = OpenIntEnum.fromEnum(TestEnum.SomeValue);
+    OpenIntEnum<TestEnum> second = OpenIntEnum.fromEnum(TestEnum.SomeValue);
+
+    assertSame(first, second);
+    assertEquals(TestEnum.SomeValue, first.getEnumValue());
+  }
+
+  @Test
+  void enum_value_must_not_be_null() {
+    assertThrows(IllegalArgumentException.class, () -> OpenIntEnum.fromEnum(null));
+  }
+
+  @Test
+  void unknown_value_holds_code() {
+    OpenIntEnum<TestEnum> openIntEnum = OpenIntEnum.fromUnknown(42);
+
+    assertTrue(openIntEnum.isUnknownValue());
+    assertFalse(openIntEnum.isEnumValue());
+    assertEquals(42, openIntEnum.getUnknownValue());
+  }
+
+  @Test
+  void cannot_get_unknown_value_from_enum_value() {
+    OpenIntEnum<TestEnum> openIntEnum = OpenIntEnum.fromEnum(TestEnum.SomeValue);
+
+    assertThrows(NoSuchElementException.class, openIntEnum::getUnknownValue);
+  }
+
+  @Test
+  void cannot_get_enum_value_from_unknown_value() {
+    OpenIntEnum<TestEnum> openIntEnum = OpenIntEnum.fromUnknown(0);
+
+    assertThrows(NoSuchElementException.class, openIntEnum::getEnumValue);
+  }
+
+  @Test
+  void folding_applies_matching_function() {
+    OpenIntEnum<TestEnum> known = OpenIntEnum.fromEnum(TestEnum.OtherValue);
+    OpenIntEnum<TestEnum> unknown = OpenIntEnum.fromUnknown(7);
+
+    assertEquals("OtherValue", known.fold(TestEnum::name, code -> "code " + code));
+    assertEquals("code 7", unknown.fold(TestEnum::name, code -> "code " + code));
+  }
+
+  @Test
+  void handling_applies_matching_consumer() {
+    AtomicReference<String> handled = new AtomicReference<>();
+
+    OpenIntEnum.<TestEnum>fromUnknown(7)
+        .handle(e -> handled.set(e.name()), code -> handled.set("code " + code));
+
+    assertEquals("code 7", handled.get());
+  }
+
+  @Test
+  void as_optional_is_empty_for_unknown_value() {
+    assertEquals(Optional.empty(), OpenIntEnum.<TestEnum>fromUnknown(7).asOptional());
+    assertEquals(
+        Optional.of(TestEnum.SomeValue), OpenIntEnum.fromEnum(TestEnum.SomeValue).asOptional());
+  }
+
+  @Test
+  void converts_to_open_enum() {
+    assertSame(
+        OpenEnum.fromEnum(TestEnum.SomeValue),
+        OpenIntEnum.fromEnum(TestEnum.SomeValue).toOpenEnum());
+    assertEquals(OpenEnum.fromUnknown(7), OpenIntEnum.<TestEnum>fromUnknown(7).toOpenEnum());
+  }
+
+  @Test
+  void equals_fulfills_contract() {
+    EqualsVerifier.forClass(OpenIntEnum.class).verify();
+  }
+
+  @Test
+  void unknown_values_are_equal_if_their_codes_are_equal() {
+    OpenIntEnum<TestEnum> first = OpenIntEnum.fromUnknown(7);
+    OpenIntEnum<TestEnum> second = OpenIntEnum.fromUnknown(7);
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    assertFalse(first.equals(OpenIntEnum.fromUnknown(8)));
+    assertFalse(first.equals(OpenIntEnum.fromEnum(TestEnum.SomeValue)));
+  }
+
+  @Test
+  void toString_contains_value() {
+    assertEquals("OpenIntEnum{SomeValue}", OpenIntEnum.fromEnum(TestEnum.SomeValue).toString());
+    assertEquals("OpenIntEnum{unknown:7}", OpenIntEnum.fromUnknown(7).toString());
+  }
+}
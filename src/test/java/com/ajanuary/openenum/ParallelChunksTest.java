@@ -0,0 +1,73 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+public class ParallelChunksTest {
+  @Test
+  void runs_every_index_once() {
+    int length = ParallelChunks.CHUNK_SIZE * 10 + 7;
+    AtomicIntegerArray runs = new AtomicIntegerArray(length);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    try {
+      ParallelChunks.run(length, executor, 4, (from, to) -> increment(runs, from, to));
+    } finally {
+      executor.shutdown();
+    }
+
+    for (int i = 0; i < length; i++) {
+      assertEquals(1, runs.get(i));
+    }
+  }
+
+  @Test
+  void runs_on_calling_thread_when_executor_rejects() {
+    int length = ParallelChunks.CHUNK_SIZE * 3;
+    AtomicIntegerArray runs = new AtomicIntegerArray(length);
+
+    ParallelChunks.run(
+        length,
+        command -> {
+          throw new RejectedExecutionException();
+        },
+        4,
+        (from, to) -> increment(runs, from, to));
+
+    for (int i = 0; i < length; i++) {
+      assertEquals(1, runs.get(i));
+    }
+  }
+
+  @Test
+  void rethrows_failures() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    try {
+      assertThrows(
+          IllegalStateException.class,
+          () ->
+              ParallelChunks.run(
+                  ParallelChunks.CHUNK_SIZE * 8,
+                  executor,
+                  4,
+                  (from, to) -> {
+                    throw new IllegalStateException();
+                  }));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void increment(AtomicIntegerArray runs, int from, int to) {
+    for (int i = from; i < to; i++) {
+      runs.incrementAndGet(i);
+    }
+  }
+}
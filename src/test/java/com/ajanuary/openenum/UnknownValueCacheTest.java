@@ -0,0 +1,134 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class UnknownValueCacheTest {
+  enum TestEnum {
+    SomeValue
+  }
+
+  @Test
+  void interning_equal_values_returns_same_instance() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+
+    OpenEnum<TestEnum, String> first = cache.intern("unknown");
+    OpenEnum<TestEnum, String> second = cache.intern("unknown");
+
+    assertSame(first, second);
+    assertTrue(first.isUnknownValue());
+    assertEquals("unknown", first.getUnknownValue());
+  }
+
+  @Test
+  void interning_null_returns_unknown_null() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+
+    OpenEnum<TestEnum, String> first = cache.intern(null);
+
+    assertNull(first.getUnknownValue());
+    assertSame(first, cache.intern(null));
+  }
+
+  @Test
+  void counts_hits_and_misses() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(10);
+
+    cache.intern("a");
+    cache.intern("a");
+    cache.intern("a");
+    cache.intern("b");
+
+    assertEquals(2, cache.hitCount());
+    assertEquals(2, cache.missCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void evicts_least_recently_used_value_when_full() {
+    UnknownValueCache<TestEnum, Integer> cache = UnknownValueCache.withMaximumSize(1);
+    OpenEnum<TestEnum, Integer> first = cache.intern(1);
+    cache.intern(2);
+
+    OpenEnum<TestEnum, Integer> again = cache.intern(1);
+
+    assertNotSame(first, again);
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void keeps_alternating_values_that_share_a_segment() {
+    UnknownValueCache<TestEnum, String> cache = UnknownValueCache.withMaximumSize(16);
+    // "Gold" and "Silver" hash to the same segment of a cache with up to 16 segments.
+    OpenEnum<TestEnum, String> gold = cache.intern("Gold");
+    OpenEnum<TestEnum, String> silver = cache.intern("Silver");
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(gold, cache.intern("Gold"));
+      assertSame(silver, cache.intern("Silver"));
+    }
+
+    assertEquals(2, cache.missCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void never_holds_more_than_maximum_size() {
+    UnknownValueCache<TestEnum, Integer> cache = UnknownValueCache.withMaximumSize(100);
+
+    for (int i = 0; i < 10_000; i++) {
+      cache.intern(i);
+    }
+
+    assertTrue(cache.size() <= 100);
+  }
+
+  @Test
+  void interns_consistently_across_threads() throws Exception {
+    UnknownValueCache<TestEnum, Integer> cache = UnknownValueCache.withMaximumSize(1_000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<OpenEnum<TestEnum, Integer>>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<OpenEnum<TestEnum, Integer>> interned = new ArrayList<>();
+                  for (int i = 0; i < 500; i++) {
+                    interned.add(cache.intern(i));
+                  }
+                  return interned;
+                }));
+      }
+      List<OpenEnum<TestEnum, Integer>> expected = futures.get(0).get();
+      for (Future<List<OpenEnum<TestEnum, Integer>>> future : futures) {
+        List<OpenEnum<TestEnum, Integer>> actual = future.get();
+        for (int i = 0; i < 500; i++) {
+          assertSame(expected.get(i), actual.get(i));
+        }
+      }
+      assertEquals(500, cache.missCount());
+      assertEquals(1_500, cache.hitCount());
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void maximum_size_must_be_positive() {
+    assertThrows(IllegalArgumentException.class, () -> UnknownValueCache.withMaximumSize(0));
+  }
+}
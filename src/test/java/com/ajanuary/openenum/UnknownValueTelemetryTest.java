@@ -0,0 +1,178 @@
+package com.ajanuary.openenum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class UnknownValueTelemetryTest {
+  enum TestEnum {
+    SomeValue
+  }
+
+  enum OtherTestEnum {
+    SomeValue
+  }
+
+  @Test
+  void counts_unknown_values_by_value() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    telemetry.onUnknownValue(TestEnum.class, "a");
+    telemetry.onUnknownValue(TestEnum.class, "b");
+    telemetry.onUnknownValue(TestEnum.class, "a");
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(3, snapshot.totalCount());
+    assertEquals(2, snapshot.topValues().size());
+    assertEquals("a", snapshot.topValues().get(0).value());
+    assertEquals(2, snapshot.topValues().get(0).count());
+    assertEquals(0, snapshot.topValues().get(0).maximumError());
+    assertEquals("b", snapshot.topValues().get(1).value());
+    assertEquals(1, snapshot.topValues().get(1).count());
+  }
+
+  @Test
+  void counts_null_unknown_values() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    telemetry.onUnknownValue(TestEnum.class, null);
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertNull(snapshot.topValues().get(0).value());
+    assertEquals(1, snapshot.topValues().get(0).count());
+  }
+
+  @Test
+  void counts_each_enum_separately() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    telemetry.onUnknownValue(OtherTestEnum.class, "a");
+    telemetry.onUnknownValue(TestEnum.class, "a");
+    telemetry.onUnknownValue(TestEnum.class, "a");
+
+    List<UnknownValueTelemetry.Snapshot> snapshots = telemetry.snapshot();
+
+    assertEquals(2, snapshots.size());
+    assertSame(OtherTestEnum.class, snapshots.get(0).getEnumType());
+    assertEquals(1, snapshots.get(0).totalCount());
+    assertSame(TestEnum.class, snapshots.get(1).getEnumType());
+    assertEquals(2, snapshots.get(1).totalCount());
+  }
+
+  @Test
+  void snapshot_of_enum_without_unknown_values_is_empty() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(0, snapshot.totalCount());
+    assertTrue(snapshot.topValues().isEmpty());
+  }
+
+  @Test
+  void new_value_replaces_least_frequent_when_full() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(2);
+    telemetry.onUnknownValue(TestEnum.class, "a");
+    telemetry.onUnknownValue(TestEnum.class, "a");
+    telemetry.onUnknownValue(TestEnum.class, "b");
+    telemetry.onUnknownValue(TestEnum.class, "c");
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(4, snapshot.totalCount());
+    assertEquals(2, snapshot.topValues().size());
+    assertEquals("a", snapshot.topValues().get(0).value());
+    assertEquals("c", snapshot.topValues().get(1).value());
+    assertEquals(2, snapshot.topValues().get(1).count());
+    assertEquals(1, snapshot.topValues().get(1).maximumError());
+  }
+
+  @Test
+  void keeps_heavy_hitters_among_many_rare_values() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(4);
+    for (int i = 0; i < 1000; i++) {
+      telemetry.onUnknownValue(TestEnum.class, "frequent");
+      telemetry.onUnknownValue(TestEnum.class, "rare" + i);
+    }
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(2000, snapshot.totalCount());
+    assertEquals("frequent", snapshot.topValues().get(0).value());
+    assertEquals(1000, snapshot.topValues().get(0).count());
+  }
+
+  @Test
+  void keeps_heavy_hitters_when_sampling_values_to_replace() {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(64);
+    for (int i = 0; i < 10_000; i++) {
+      telemetry.onUnknownValue(TestEnum.class, "frequent");
+      telemetry.onUnknownValue(TestEnum.class, "rare" + i);
+    }
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(20_000, snapshot.totalCount());
+    assertEquals(64, snapshot.topValues().size());
+    assertEquals("frequent", snapshot.topValues().get(0).value());
+    assertEquals(10_000, snapshot.topValues().get(0).count());
+    assertEquals(0, snapshot.topValues().get(0).maximumError());
+  }
+
+  @Test
+  void counts_from_many_threads() throws Exception {
+    UnknownValueTelemetry telemetry = UnknownValueTelemetry.withTrackedValues(10);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> futures =
+          executor.invokeAll(
+              List.of(
+                  () -> count(telemetry),
+                  () -> count(telemetry),
+                  () -> count(telemetry),
+                  () -> count(telemetry)));
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    UnknownValueTelemetry.Snapshot snapshot = telemetry.snapshot(TestEnum.class);
+
+    assertEquals(40_000, snapshot.totalCount());
+    assertEquals(40_000, snapshot.topValues().get(0).count());
+  }
+
+  @Test
+  void listeners_can_be_combined() {
+    UnknownValueTelemetry first = UnknownValueTelemetry.withTrackedValues(10);
+    UnknownValueTelemetry second = UnknownValueTelemetry.withTrackedValues(10);
+
+    first.andThen(second).onUnknownValue(TestEnum.class, "a");
+
+    assertEquals(1, first.snapshot(TestEnum.class).totalCount());
+    assertEquals(1, second.snapshot(TestEnum.class).totalCount());
+  }
+
+  @Test
+  void tracked_values_must_be_positive() {
+    assertThrows(IllegalArgumentException.class, () -> UnknownValueTelemetry.withTrackedValues(0));
+  }
+
+  private static Object count(UnknownValueTelemetry telemetry) {
+    for (int i = 0; i < 10_000; i++) {
+      telemetry.onUnknownValue(TestEnum.class, "a");
+    }
+    return null;
+  }
+}